@@ -0,0 +1,66 @@
+package io.github.akanksha23056.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Support and collision resolution on their own.
+// resolveAwakeBodies is the Box2D step plus syncing every body back into the store and grid,
+// with all bodies awake so nothing is skipped; sweepBird is the bird's swept-circle hit test for
+// one tick through a wall, with candidates from the grid. resolveAwakeBodies is run with the
+// physics islands stepped one after another and in parallel.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CollisionBenchmark {
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int entities;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private SyntheticLevel level;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        level = SyntheticLevel.settled(entities, 600, parallel);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        level.dispose();
+    }
+
+    @State(Scope.Thread)
+    public static class Awake {
+        @Setup(Level.Invocation)
+        public void wake(CollisionBenchmark benchmark) {
+            benchmark.level.wakeAll();
+        }
+    }
+
+    @Benchmark
+    public void resolveAwakeBodies(Awake awake) {
+        level.resolveBodies();
+    }
+
+    @Benchmark
+    public void sweepBird() {
+        level.sweepBird();
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.akanksha23056.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// One blast through ExplosionSystem: the grid radius query, falloff and waking of every target.
+// The blast does no damage and no push, so every call sees the same level; a radius as big as the
+// black bird's (106 px) and one covering several walls show how the cost follows the area
+// rather than the size of the level.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExplosionBenchmark {
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int entities;
+
+    @Param({"106", "1000"})
+    public float radius;
+
+    private SyntheticLevel level;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        level = SyntheticLevel.settled(entities, 600, false);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        level.dispose();
+    }
+
+    @Benchmark
+    public void blast() {
+        level.blast(radius);
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.akanksha23056.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// A whole simulation tick: input, bird, sweep, physics, damage, blasts and the win check.
+// settledTick is the steady state of a level nobody is shooting at, where every body sleeps;
+// awakeTick wakes every body first, the worst case right after a big blast. Each is run with the
+// physics islands stepped one after another and in parallel.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LevelTickBenchmark {
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int entities;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private SyntheticLevel level;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        level = SyntheticLevel.settled(entities, 600, parallel);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        level.dispose();
+    }
+
+    @Benchmark
+    public void settledTick() {
+        level.step();
+    }
+
+    @State(Scope.Thread)
+    public static class Awake {
+        @Setup(Level.Invocation)
+        public void wake(LevelTickBenchmark benchmark) {
+            benchmark.level.wakeAll();
+        }
+    }
+
+    @Benchmark
+    public void awakeTick(Awake awake) {
+        level.step();
+    }
+}
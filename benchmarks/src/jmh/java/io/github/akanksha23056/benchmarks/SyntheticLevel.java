@@ -0,0 +1,164 @@
+package io.github.akanksha23056.benchmarks;
+
+import com.badlogic.gdx.physics.box2d.Box2D;
+import io.github.akanksha23056.Core.CommandSource;
+import io.github.akanksha23056.Core.LevelSimulation;
+import io.github.akanksha23056.Core.ScriptedCommands;
+import io.github.akanksha23056.Core.WorldRandom;
+import io.github.akanksha23056.Objects.BirdType;
+import io.github.akanksha23056.Physics.EntityStore;
+import io.github.akanksha23056.Physics.ExplosionSystem;
+import io.github.akanksha23056.Physics.Material;
+import io.github.akanksha23056.Physics.PhysicsWorld;
+import io.github.akanksha23056.Physics.SpatialGrid;
+
+import java.util.concurrent.ForkJoinPool;
+
+// A level of any size for the benchmarks, run by the same LevelSimulation tick as the real levels.
+// Entities are small boxes stacked into towers, crate and glass alternating with a pig on top.
+// Towers stand side by side in walls, which come to rest and fall asleep like a real level (single
+// towers this high keep swaying). Walls are further apart than PhysicsWorld.ISLAND_MARGIN, so each is
+// its own physics island like the separate structures of a wide level. They are laid out around the
+// middle of the ground, which 100,000 entities (500 walls) take up 95% of; larger levels are refused.
+// Every tick also runs blasts and the win check, as Level3 does. A parallel level steps its islands
+// on a pool shared by all of them, one worker per core.
+public class SyntheticLevel extends LevelSimulation {
+    public static final float BOX_SIZE = 12;
+    public static final int TOWER_HEIGHT = 10;
+    private static final int TOWERS_PER_WALL = 20;
+    private static final float TOWER_PITCH = BOX_SIZE;
+    private static final float WALL_WIDTH = TOWERS_PER_WALL * TOWER_PITCH;
+    private static final float WALL_PITCH = WALL_WIDTH + PhysicsWorld.ISLAND_MARGIN + 40;
+    private static final float GROUND_Y = 100;
+    private static final long SEED = 1;
+    private static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    private final ExplosionSystem explosions;
+    private final float centerX;
+
+    // A level with the given number of entities, as built: its bodies have not been stepped yet
+    public static SyntheticLevel create(int entityCount, boolean parallel) {
+        Box2D.init();
+        return new SyntheticLevel(entityCount, new ScriptedCommands(), parallel ? POOL : null);
+    }
+
+    // A level with the given number of entities, stepped until every body sleeps
+    public static SyntheticLevel settled(int entityCount, int maxTicks, boolean parallel) {
+        SyntheticLevel level = create(entityCount, parallel);
+        int ticks = level.settle(maxTicks);
+        if (level.entities.awakeCount > 0) {
+            throw new IllegalStateException(level.entities.awakeCount + " of " + entityCount
+                + " entities still awake after " + ticks + " ticks");
+        }
+        return level;
+    }
+
+    public SyntheticLevel(int entityCount, CommandSource commands, ForkJoinPool pool) {
+        super(1000, 600, GROUND_Y, commands, new WorldRandom(SEED), entityCount, new SpatialGrid(100), 0.15f,
+            pool, BirdType.RED);
+        this.explosions = new ExplosionSystem(entities, grid, damage);
+
+        int towers = (entityCount + TOWER_HEIGHT - 1) / TOWER_HEIGHT;
+        int walls = (towers + TOWERS_PER_WALL - 1) / TOWERS_PER_WALL;
+        float left = -((walls - 1) * WALL_PITCH + WALL_WIDTH) / 2;
+        if (-left > PhysicsWorld.GROUND_HALF_WIDTH) {
+            throw new IllegalArgumentException(entityCount + " entities do not fit on the ground");
+        }
+        for (int i = 0; i < entityCount; i++) {
+            int tower = i / TOWER_HEIGHT;
+            int level = i % TOWER_HEIGHT;
+            float x = left + (tower / TOWERS_PER_WALL) * WALL_PITCH + (tower % TOWERS_PER_WALL) * TOWER_PITCH;
+            float y = GROUND_Y + level * BOX_SIZE;
+
+            Material material;
+            if (level == TOWER_HEIGHT - 1 || i == entityCount - 1) {
+                material = Material.PIG;
+            } else {
+                material = level % 2 == 0 ? Material.WOOD : Material.GLASS;
+            }
+            int id = entities.createBox(physics, material, x, y, BOX_SIZE, BOX_SIZE);
+            grid.update(id, x, y, x + BOX_SIZE, y + BOX_SIZE);
+        }
+
+        // A wall in the middle of the level, where blasts and sweeps are aimed
+        this.centerX = left + (walls / 2) * WALL_PITCH + WALL_WIDTH / 2;
+    }
+
+    // Steps until every body sleeps; returns the number of ticks it took
+    public int settle(int maxTicks) {
+        int ticks = 0;
+        while (ticks < maxTicks && entities.awakeCount > 0) {
+            step();
+            ticks++;
+        }
+        return ticks;
+    }
+
+    public void wakeAll() {
+        for (int i = 0; i < entities.size; i++) {
+            entities.wake(entities.idAt(i));
+        }
+    }
+
+    // Support and collision resolution alone: the Box2D step, copying transforms back into the
+    // store and grid, and turning the contacts into damage
+    public void resolveBodies() {
+        physics.step();
+        entities.syncBodies(physics, grid);
+        damage.flush();
+    }
+
+    // One tick of bird movement through the middle wall, with the bird at rest so hits do no damage
+    public void sweepBird() {
+        float y = GROUND_Y + TOWER_HEIGHT * BOX_SIZE / 2;
+        damage.sweepProjectile(grid, centerX - 40, y + 10, centerX - 10, y, BIRD_RADIUS);
+        damage.flush();
+    }
+
+    // A blast over the middle wall that finds, falls off over and wakes its targets, but destroys
+    // and pushes nothing, so the level is the same after every call
+    public void blast(float radius) {
+        explosions.explode(centerX, GROUND_Y + TOWER_HEIGHT * BOX_SIZE / 2, radius, 0, 0);
+        explosions.update();
+    }
+
+    public boolean allPigsHit() {
+        return allPigsHit(EntityStore.HURT);
+    }
+
+    // The slowest state for the win check: it has to look at every entity to find the one pig left
+    public void hurtAllPigsButLast() {
+        int last = -1;
+        for (int i = 0; i < entities.size; i++) {
+            if (entities.materials[i] != Material.PIG) continue;
+            if (last >= 0) {
+                entities.setFlag(last, EntityStore.HURT, true);
+            }
+            last = i;
+        }
+    }
+
+    @Override
+    protected void afterStep() {
+        explosions.update();
+        if (allPigsHit()) {
+            win();
+        }
+    }
+
+    @Override
+    protected void onBirdLanded() {
+        isBirdLaunched = false;
+        resetBird(currentBird);
+    }
+
+    @Override
+    public void onDestroyed(int id) {
+        int index = entities.indexOf(id);
+        if (entities.materials[index] == Material.PIG) {
+            entities.setFlag(index, EntityStore.HURT, true);
+        } else {
+            removeEntity(id);
+        }
+    }
+}
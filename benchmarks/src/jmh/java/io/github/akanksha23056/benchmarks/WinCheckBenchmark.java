@@ -0,0 +1,48 @@
+package io.github.akanksha23056.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// The per-tick win check (LevelSimulation.allPigsHit). Levels run it every tick, and with no pig
+// hurt yet it stops at the first pig, so the worst case is measured: every pig but the last hurt.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WinCheckBenchmark {
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int entities;
+
+    private SyntheticLevel level;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        level = SyntheticLevel.create(entities, false);
+        level.hurtAllPigsButLast();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        level.dispose();
+    }
+
+    @Benchmark
+    public boolean allPigsHit() {
+        return level.allPigsHit();
+    }
+}
@@ -0,0 +1,8 @@
+package io.github.akanksha23056.Core;
+
+// Where a simulation gets its input from: the touch screen, a script, a recording or a bot.
+// Called once at the start of every tick, before anything moves.
+public interface CommandSource {
+    // Fills in the pointer state for the given tick (0 is the first tick of the level)
+    void next(int tick, SlingCommand command);
+}
@@ -0,0 +1,30 @@
+package io.github.akanksha23056.Core;
+
+// Passes another command source through to the simulation and writes every tick's pointer into
+// an InputRecording. Costs a comparison per tick, so levels are always recorded.
+// When the level goes back to an earlier tick (restart or rewind) what was recorded from there
+// on is dropped, so the recording always holds the run as it was finally played.
+public class InputRecorder implements CommandSource {
+    private final CommandSource source;
+    private final InputRecording recording;
+    private int lastTick = -1;
+
+    public InputRecorder(CommandSource source, InputRecording recording) {
+        this.source = source;
+        this.recording = recording;
+    }
+
+    public InputRecording getRecording() {
+        return recording;
+    }
+
+    @Override
+    public void next(int tick, SlingCommand command) {
+        source.next(tick, command);
+        if (tick <= lastTick) {
+            recording.truncate(tick);
+        }
+        lastTick = tick;
+        recording.record(tick, command);
+    }
+}
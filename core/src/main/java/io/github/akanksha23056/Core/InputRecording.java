@@ -0,0 +1,171 @@
+package io.github.akanksha23056.Core;
+
+import com.badlogic.gdx.utils.BooleanArray;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+// One run of a level as the simulation saw it: which level, its random seed and world size,
+// and the pointer at every tick. Together they replay the run exactly, for regression runs,
+// bug reports and ghost playback.
+// Only the ticks where the pointer changed are kept, so the file is small: a header, then per
+// change the ticks since the last one as a varint, whether the pointer is down, and while it is
+// down its position as two floats: about ten bytes per tick spent dragging, two per click.
+public class InputRecording {
+    private static final int MAGIC = 0x41425250; // "ABRP"
+    private static final int VERSION = 1;
+
+    private final int level;
+    private final long seed;
+    private final float worldWidth;
+    private final float worldHeight;
+
+    // Keyframes in tick order, as in ScriptedCommands
+    private final IntArray ticks = new IntArray();
+    private final BooleanArray pressed = new BooleanArray();
+    private final FloatArray xs = new FloatArray();
+    private final FloatArray ys = new FloatArray();
+
+    public InputRecording(int level, long seed, float worldWidth, float worldHeight) {
+        this.level = level;
+        this.seed = seed;
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+    }
+
+    // Stores the pointer for a tick if it differs from the last keyframe
+    public void record(int tick, SlingCommand command) {
+        int last = ticks.size - 1;
+        if (last >= 0) {
+            if (tick < ticks.get(last)) {
+                throw new IllegalArgumentException("Ticks must be recorded in order: " + tick + " after " + ticks.get(last));
+            }
+            boolean unchanged = pressed.get(last) == command.pressed
+                && (!command.pressed || (xs.get(last) == command.x && ys.get(last) == command.y));
+            if (unchanged) return;
+        } else if (!command.pressed) {
+            return; // The pointer is up until the first keyframe anyway
+        }
+        ticks.add(tick);
+        pressed.add(command.pressed);
+        xs.add(command.pressed ? command.x : 0);
+        ys.add(command.pressed ? command.y : 0);
+    }
+
+    // Forgets the keyframes from a tick on, when the level went back to it (restart or rewind)
+    public void truncate(int tick) {
+        int keep = ticks.size;
+        while (keep > 0 && ticks.get(keep - 1) >= tick) {
+            keep--;
+        }
+        ticks.truncate(keep);
+        pressed.truncate(keep);
+        xs.truncate(keep);
+        ys.truncate(keep);
+    }
+
+    // Commands that play the recorded pointer back, tick for tick
+    public ScriptedCommands replay() {
+        ScriptedCommands commands = new ScriptedCommands();
+        for (int i = 0; i < ticks.size; i++) {
+            if (pressed.get(i)) {
+                commands.press(ticks.get(i), xs.get(i), ys.get(i));
+            } else {
+                commands.release(ticks.get(i));
+            }
+        }
+        return commands;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public float getWorldWidth() {
+        return worldWidth;
+    }
+
+    public float getWorldHeight() {
+        return worldHeight;
+    }
+
+    // Tick of the last change, or -1 when the pointer never went down
+    public int getLastTick() {
+        return ticks.size > 0 ? ticks.peek() : -1;
+    }
+
+    public void write(OutputStream stream) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeByte(level);
+        out.writeLong(seed);
+        out.writeFloat(worldWidth);
+        out.writeFloat(worldHeight);
+        writeVarInt(out, ticks.size);
+        int previousTick = 0;
+        for (int i = 0; i < ticks.size; i++) {
+            writeVarInt(out, ticks.get(i) - previousTick);
+            previousTick = ticks.get(i);
+            out.writeBoolean(pressed.get(i));
+            if (pressed.get(i)) {
+                out.writeFloat(xs.get(i));
+                out.writeFloat(ys.get(i));
+            }
+        }
+        out.flush();
+    }
+
+    public static InputRecording read(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not an input recording");
+        }
+        int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported input recording version " + version);
+        }
+        InputRecording recording = new InputRecording(in.readUnsignedByte(), in.readLong(), in.readFloat(), in.readFloat());
+        int count = readVarInt(in);
+        int tick = 0;
+        for (int i = 0; i < count; i++) {
+            tick += readVarInt(in);
+            boolean down = in.readBoolean();
+            recording.ticks.add(tick);
+            recording.pressed.add(down);
+            recording.xs.add(down ? in.readFloat() : 0);
+            recording.ys.add(down ? in.readFloat() : 0);
+        }
+        return recording;
+    }
+
+    // Seven bits per byte, low bits first; small tick gaps take one byte
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed varint in input recording");
+    }
+}
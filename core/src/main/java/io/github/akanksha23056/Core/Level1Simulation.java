@@ -0,0 +1,126 @@
+package io.github.akanksha23056.Core;
+
+import io.github.akanksha23056.Objects.BirdType;
+import io.github.akanksha23056.Physics.EntityStore;
+import io.github.akanksha23056.Physics.ExplosionSystem;
+import io.github.akanksha23056.Physics.FixedTimestep;
+import io.github.akanksha23056.Physics.Material;
+
+import java.nio.ByteBuffer;
+
+// Level 1: a crate, TNT and a pig stacked up, and one red bird that can be pulled back at any time.
+// Hitting the pig wins; setting off the TNT wins once the explosion has played.
+public class Level1Simulation extends LevelSimulation {
+    // Crates, TNT and pig, as ids into the entity store
+    private final int tntId;
+    private final int pigId;
+
+    // TNT explosion timing
+    private boolean isTNTExploded = false;
+    private float explosionTimer = 0f;
+    private final float explosionDuration = 1f; // 1 second delay for win screen
+
+    // TNT blast: radius in pixels, damage and push at the centre
+    private final ExplosionSystem explosions;
+    private final float tntBlastRadius = 125f; // Matches the drawn explosion
+    private final float tntBlastDamage = 24f;
+    private final float tntBlastImpulse = 1.5f;
+
+    public Level1Simulation(float worldWidth, float worldHeight, CommandSource commands, WorldRandom random) {
+        super(worldWidth, worldHeight, 130, commands, random, 8, null, 0.1f, BirdType.RED);
+        this.explosions = new ExplosionSystem(entities, null, damage);
+
+        // Initialize crate
+        entities.createBox(physics, Material.WOOD, 400, groundY, 50, 50);
+
+        // Initialize TNT above crate
+        tntId = entities.createBox(physics, Material.TNT, 400, groundY + 50, 50, 50);
+
+        // Initialize pig above TNT
+        pigId = entities.createBox(physics, Material.PIG, 400, groundY + 100, 50, 50);
+    }
+
+    @Override
+    protected void afterStep() {
+        explosions.update();
+
+        // Handle explosion delay
+        if (isTNTExploded) {
+            explosionTimer += FixedTimestep.STEP;
+            if (explosionTimer >= explosionDuration) {
+                win();
+            }
+        }
+    }
+
+    // The only bird can be grabbed again even in flight, and falls whenever it is let go
+    @Override
+    protected boolean canAim() {
+        return true;
+    }
+
+    @Override
+    protected boolean isBirdFlying() {
+        return !isDragging;
+    }
+
+    @Override
+    protected void onBirdLanded() {}
+
+    @Override
+    public void onHit(int id, float x, float y) {
+        if (id == tntId) {
+            explodeTNT();
+            return;
+        }
+
+        // Crates and the pig are knocked back and take damage from the impact
+        super.onHit(id, x, y);
+    }
+
+    @Override
+    public void onDestroyed(int id) {
+        if (id == tntId) {
+            explodeTNT();
+        } else if (id == pigId) {
+            entities.setFlag(entities.indexOf(pigId), EntityStore.HURT, true); // Change to hurt texture
+            if (!isTNTExploded) {
+                win(); // After a blast the explosion timer decides
+            }
+        } else {
+            removeEntity(id);
+        }
+    }
+
+    private void explodeTNT() {
+        int tnt = entities.indexOf(tntId);
+        if (entities.hasFlag(tnt, EntityStore.EXPLODED)) return;
+        entities.setFlag(tnt, EntityStore.EXPLODED, true);
+        entities.health[tnt] = 0;
+        isTNTExploded = true; // Start explosion timer
+        explosions.explode(entities.centerX(tnt), entities.centerY(tnt), tntBlastRadius, tntBlastDamage, tntBlastImpulse);
+    }
+
+    @Override
+    protected int stateSize() {
+        return 1 + 4 + explosions.snapshotSize();
+    }
+
+    @Override
+    protected void writeState(ByteBuffer out) {
+        out.put((byte) (isTNTExploded ? 1 : 0));
+        out.putFloat(explosionTimer);
+        explosions.write(out);
+    }
+
+    @Override
+    protected void readState(ByteBuffer in) {
+        isTNTExploded = in.get() != 0;
+        explosionTimer = in.getFloat();
+        explosions.read(in);
+    }
+
+    public boolean isTNTExploded() {
+        return isTNTExploded;
+    }
+}
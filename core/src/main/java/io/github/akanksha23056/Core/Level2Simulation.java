@@ -0,0 +1,114 @@
+package io.github.akanksha23056.Core;
+
+import io.github.akanksha23056.Objects.BirdType;
+import io.github.akanksha23056.Physics.EntityStore;
+import io.github.akanksha23056.Physics.Material;
+import io.github.akanksha23056.Physics.PhysicsWorld;
+
+import java.nio.ByteBuffer;
+
+// Level 2: three crates with a pig on each, the middle one a magic pig that teleports when hit.
+// The red bird gets one shot, the faster yellow bird two; every pig has to be hurt to win.
+public class Level2Simulation extends LevelSimulation {
+    // Track tries
+    private int yellowBirdTries = 0;
+
+    // Where the magic pig teleports to
+    private final WorldRandom teleports;
+
+    public Level2Simulation(float worldWidth, float worldHeight, CommandSource commands, WorldRandom random) {
+        super(worldWidth, worldHeight, 130, commands, random, 8, null, 0.1f, BirdType.RED, BirdType.YELLOW);
+        this.teleports = random.split();
+
+        // Initialize crates
+        for (int i = 0; i < 3; i++) {
+            entities.createBox(physics, Material.WOOD, 300 + i * 100, groundY, 50, 50); // X, Y, Width, Height
+        }
+
+        // Initialize pigs on top of the crates (replace the middle pig with the magic pig)
+        for (int i = 0; i < 3; i++) {
+            int pigId = entities.createBox(physics, Material.PIG, 300 + i * 100, groundY + 50, 50, 50);
+            if (i == 1) { // Middle crate gets the magic pig
+                entities.setFlag(entities.indexOf(pigId), EntityStore.MAGIC, true);
+            }
+        }
+    }
+
+    @Override
+    protected float getSpeedMultiplier(BirdType bird) {
+        return bird == BirdType.YELLOW ? 2.0f : 1.0f; // Yellow bird has higher speed
+    }
+
+    @Override
+    protected void afterStep() {
+        if (allPigsHit(EntityStore.HURT)) {
+            win();
+        }
+    }
+
+    @Override
+    protected void onBirdLanded() {
+        if (getCurrentBirdType() == BirdType.YELLOW) {
+            // The yellow bird goes back on the sling for a second shot
+            isBirdLaunched = false;
+            resetBird(currentBird);
+            yellowBirdTries++;
+            if (yellowBirdTries >= 2 && !allPigsHit(EntityStore.HURT)) {
+                lose();
+            }
+        } else {
+            // Red bird can only be shot once
+            nextBird();
+        }
+    }
+
+    @Override
+    public void onHit(int id, float x, float y) {
+        int index = entities.indexOf(id);
+        if (entities.hasFlag(index, EntityStore.MAGIC)) {
+            // Teleport the magic pig, it turns into a regular pig
+            teleportMagicPig(index);
+            return;
+        }
+
+        // Pigs and crates are knocked back and take damage from the impact
+        super.onHit(id, x, y);
+    }
+
+    @Override
+    public void onDestroyed(int id) {
+        int index = entities.indexOf(id);
+        if (entities.materials[index] == Material.PIG) {
+            entities.setFlag(index, EntityStore.HURT, true); // Hurt pigs stay in the level
+        } else {
+            removeEntity(id);
+        }
+    }
+
+    @Override
+    protected int stateSize() {
+        return 4 + WorldRandom.SNAPSHOT_BYTES;
+    }
+
+    @Override
+    protected void writeState(ByteBuffer out) {
+        out.putInt(yellowBirdTries);
+        teleports.write(out);
+    }
+
+    @Override
+    protected void readState(ByteBuffer in) {
+        yellowBirdTries = in.getInt();
+        teleports.read(in);
+    }
+
+    // Teleport the magic pig to a new random position
+    private void teleportMagicPig(int index) {
+        float randomX = teleports.nextFloat(100, worldWidth - 100);
+        float randomY = teleports.nextFloat(groundY + 50, groundY + 250); // Random position above ground
+        entities.place(index, randomX, randomY); // Teleports are not interpolated
+        PhysicsWorld.moveTo(entities.bodies[index], randomX, randomY, entities.width[index], entities.height[index]);
+        entities.setFlag(index, EntityStore.MAGIC, false); // Turns into a regular pig after teleporting
+        entities.wake(entities.idAt(index));
+    }
+}
@@ -0,0 +1,140 @@
+package io.github.akanksha23056.Core;
+
+import io.github.akanksha23056.Objects.BirdType;
+import io.github.akanksha23056.Physics.EntityStore;
+import io.github.akanksha23056.Physics.ExplosionSystem;
+import io.github.akanksha23056.Physics.Material;
+import io.github.akanksha23056.Physics.SpatialGrid;
+
+import java.nio.ByteBuffer;
+
+// Level 3: three crates, each with a glass slab and a pig on top. Red, yellow and black bird get
+// one shot each; the black bird explodes where it lands. The first hurt pig brings a zombie pig,
+// which does not have to be hit to win.
+public class Level3Simulation extends LevelSimulation {
+    private boolean isBlackBirdExploded = false;
+
+    // Zombie Pig
+    private boolean isZombiePigSpawned = false;
+    private final WorldRandom zombieSpawns;
+
+    // Black bird blast: radius in pixels, damage and push at the centre. With the linear falloff,
+    // pigs and glass within about 100 px of the landing spot are destroyed, as in the original
+    // level, and crates within about 75 px
+    private final ExplosionSystem explosions;
+    private final float blastRadius = 106f;
+    private final float blastDamage = 24f;
+    private final float blastImpulse = 1.5f;
+
+    public Level3Simulation(float worldWidth, float worldHeight, CommandSource commands, WorldRandom random) {
+        super(worldWidth, worldHeight, 100, commands, random, 16, new SpatialGrid(100), 0.15f,
+            BirdType.RED, BirdType.YELLOW, BirdType.BLACK);
+        this.explosions = new ExplosionSystem(entities, grid, damage);
+        this.zombieSpawns = random.split();
+
+        // Initialize crates, each with a glass slab and a pig on top
+        for (int i = 0; i < 3; i++) {
+            float x = 300 + i * 100;
+            entities.createBox(physics, Material.WOOD, x, groundY, 50, 50);
+            entities.createBox(physics, Material.GLASS, x + 15, groundY + 50, 20, 100);
+            entities.createBox(physics, Material.PIG, x, groundY + 150, 50, 50);
+        }
+
+        // Index the structure for explosion queries
+        for (int i = 0; i < entities.size; i++) {
+            grid.update(entities.idAt(i), entities.x[i], entities.y[i],
+                entities.x[i] + entities.width[i], entities.y[i] + entities.height[i]);
+        }
+    }
+
+    @Override
+    protected float getSpeedMultiplier(BirdType bird) {
+        switch (bird) {
+            case RED:
+                return 1.0f; // Normal speed for red bird
+            case YELLOW:
+                return 1.5f; // Faster speed for yellow bird
+            case BLACK:
+                return 1.5f; // Same speed as yellow bird
+            default:
+                throw new IllegalStateException("Unexpected value: " + bird);
+        }
+    }
+
+    @Override
+    protected void afterStep() {
+        explosions.update();
+
+        // Check win condition; the zombie pig does not have to be hit
+        if (allPigsHit(EntityStore.HURT | EntityStore.ZOMBIE)) {
+            win();
+        }
+    }
+
+    @Override
+    protected void onBirdLanded() {
+        if (getCurrentBirdType() == BirdType.BLACK) {
+            if (!isBlackBirdExploded) {
+                isBlackBirdExploded = true;
+                handleExplosion();
+            }
+        } else {
+            nextBird();
+        }
+    }
+
+    @Override
+    public void onDestroyed(int id) {
+        int index = entities.indexOf(id);
+        if (entities.materials[index] == Material.PIG) {
+            boolean isZombie = entities.hasFlag(index, EntityStore.ZOMBIE);
+            entities.setFlag(index, EntityStore.HURT, true); // Hurt pigs stay in the level
+
+            // Spawn zombie pig when any pig turns into pighurt.png
+            if (!isZombie && !isZombiePigSpawned) {
+                float randomX = zombieSpawns.nextFloat(100, worldWidth - 100);
+                int zombieId = entities.createBox(physics, Material.PIG, randomX, groundY, 50, 50);
+                entities.setFlag(entities.indexOf(zombieId), EntityStore.ZOMBIE, true);
+                isZombiePigSpawned = true;
+            }
+        } else {
+            removeEntity(id);
+        }
+    }
+
+    // Everything near the landing spot is damaged and thrown back, most of all close to it
+    private void handleExplosion() {
+        float x = getBirdPosition(BirdType.BLACK).x;
+        float y = getBirdPosition(BirdType.BLACK).y;
+        explosions.explode(x, y, blastRadius, blastDamage, blastImpulse);
+    }
+
+    @Override
+    protected int stateSize() {
+        return 2 + WorldRandom.SNAPSHOT_BYTES + explosions.snapshotSize();
+    }
+
+    @Override
+    protected void writeState(ByteBuffer out) {
+        out.put((byte) (isBlackBirdExploded ? 1 : 0));
+        out.put((byte) (isZombiePigSpawned ? 1 : 0));
+        zombieSpawns.write(out);
+        explosions.write(out);
+    }
+
+    @Override
+    protected void readState(ByteBuffer in) {
+        isBlackBirdExploded = in.get() != 0;
+        isZombiePigSpawned = in.get() != 0;
+        zombieSpawns.read(in);
+        explosions.read(in);
+    }
+
+    public boolean isBlackBirdExploded() {
+        return isBlackBirdExploded;
+    }
+
+    public boolean isZombiePigSpawned() {
+        return isZombiePigSpawned;
+    }
+}
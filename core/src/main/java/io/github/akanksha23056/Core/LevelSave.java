@@ -0,0 +1,160 @@
+package io.github.akanksha23056.Core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+// A level in progress on disk, bodies and all, so it can be continued where it was left.
+// The file is the level's snapshots (see WorldSnapshot) behind a small header, little-endian:
+//   int    magic "ABSV"
+//   short  FORMAT_VERSION, the layout of this file
+//   short  LevelSimulation.SNAPSHOT_VERSION, the layout of the snapshots
+//   byte   level (1-3)
+//   long   seed
+//   float  world width, world height
+//   3x     snapshot: int tick (-1 when empty), int length, the bytes; the current state, then
+//          the level's restart and rewind points
+//   int    CRC32 of everything before it
+// Files with another version or an unknown level are refused rather than guessed at. Loading reads
+// the whole file into one buffer and copies each snapshot out with one bulk copy; restoring it is
+// then the same as a restart, so even a large world is back in milliseconds. The file is not
+// mapped, since a mapping stays open until it is garbage collected and on Windows blocks saving
+// over the file.
+public final class LevelSave {
+    private static final int MAGIC = 0x41425356; // "ABSV"
+    public static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 2 + 2 + 1 + 8 + 4 + 4;
+    private static final int LEVELS = 3;
+
+    private final int level;
+    private final long seed;
+    private final float worldWidth;
+    private final float worldHeight;
+
+    // Filled by LevelSimulation.save() and read by load()
+    final WorldSnapshot current = new WorldSnapshot();
+    final WorldSnapshot start = new WorldSnapshot();
+    final WorldSnapshot lastShot = new WorldSnapshot();
+
+    // Saves a level as it is now
+    public LevelSave(int level, LevelSimulation simulation) {
+        this(level, simulation.getSeed(), simulation.getWorldWidth(), simulation.getWorldHeight());
+        simulation.save(this);
+    }
+
+    private LevelSave(int level, long seed, float worldWidth, float worldHeight) {
+        this.level = level;
+        this.seed = seed;
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public float getWorldWidth() {
+        return worldWidth;
+    }
+
+    public float getWorldHeight() {
+        return worldHeight;
+    }
+
+    // Tick the level was saved at
+    public int getTick() {
+        return current.getTick();
+    }
+
+    // Writes next to the file and then moves it over, so a crash never leaves half a save
+    public void write(Path file) throws IOException {
+        ByteBuffer out = ByteBuffer.allocate(HEADER_BYTES + current.fileSize() + start.fileSize()
+            + lastShot.fileSize() + 4).order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(MAGIC);
+        out.putShort((short) FORMAT_VERSION);
+        out.putShort((short) LevelSimulation.SNAPSHOT_VERSION);
+        out.put((byte) level);
+        out.putLong(seed);
+        out.putFloat(worldWidth).putFloat(worldHeight);
+        current.writeTo(out);
+        start.writeTo(out);
+        lastShot.writeTo(out);
+        CRC32 crc = new CRC32();
+        crc.update(out.array(), 0, out.position());
+        out.putInt((int) crc.getValue());
+        out.flip();
+
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+            channel.force(false);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    public static LevelSave read(Path file) throws IOException {
+        ByteBuffer in;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Level save " + file + " is too large");
+            }
+            in = ByteBuffer.allocate((int) size);
+            while (in.hasRemaining()) {
+                if (channel.read(in) < 0) {
+                    throw new IOException("Level save " + file + " was cut short while reading");
+                }
+            }
+        }
+        in.flip();
+        in.order(ByteOrder.LITTLE_ENDIAN);
+        if (in.remaining() < HEADER_BYTES + 4 || in.getInt() != MAGIC) {
+            throw new IOException("Not a level save: " + file);
+        }
+        int format = in.getShort();
+        int snapshots = in.getShort();
+        if (format != FORMAT_VERSION || snapshots != LevelSimulation.SNAPSHOT_VERSION) {
+            throw new IOException("Level save " + file + " has version " + format + "." + snapshots
+                + ", this game reads " + FORMAT_VERSION + "." + LevelSimulation.SNAPSHOT_VERSION);
+        }
+
+        // The checksum covers everything up to itself
+        ByteBuffer checked = in.duplicate();
+        checked.position(0).limit(in.limit() - 4);
+        CRC32 crc = new CRC32();
+        crc.update(checked);
+        if ((int) crc.getValue() != in.getInt(in.limit() - 4)) {
+            throw new IOException("Level save " + file + " is damaged");
+        }
+
+        int level = in.get();
+        if (level < 1 || level > LEVELS) {
+            throw new IOException("Level save " + file + " is for level " + level + ", which does not exist");
+        }
+        LevelSave save = new LevelSave(level, in.getLong(), in.getFloat(), in.getFloat());
+        try {
+            save.current.readFrom(in);
+            save.start.readFrom(in);
+            save.lastShot.readFrom(in);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Level save " + file + " is damaged", e);
+        }
+        if (save.current.isEmpty()) {
+            throw new IOException("Level save " + file + " holds no level");
+        }
+        return save;
+    }
+}
@@ -0,0 +1,431 @@
+package io.github.akanksha23056.Core;
+
+import com.badlogic.gdx.math.Vector2;
+import io.github.akanksha23056.Debug.FrameProfiler;
+import io.github.akanksha23056.Objects.BirdType;
+import io.github.akanksha23056.Physics.DamageSystem;
+import io.github.akanksha23056.Physics.EntityStore;
+import io.github.akanksha23056.Physics.Material;
+import io.github.akanksha23056.Physics.PhysicsWorld;
+import io.github.akanksha23056.Physics.SpatialGrid;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ForkJoinPool;
+
+// One level's rules and physics, without a window, input device or renderer.
+// Whoever runs the level (a screen, a test, a benchmark or a bot) calls step() once per fixed tick.
+// The pointer comes from a CommandSource at the start of every tick and the world size is given
+// up front, so nothing here touches Gdx.input or Gdx.graphics; only Box2D's natives have to be
+// loaded (Box2D.init()), which works the same under the headless backend or a plain JVM.
+// Random events draw from the WorldRandom the level is given, so the same seed and commands play
+// the same level again (see InputRecording).
+// Screens draw from the public state and turn the outcome into a win or lose screen.
+// The level keeps two WorldSnapshots: its first tick, for restart(), and the last moment a bird
+// sat ready on the sling, for rewindShot(). Restoring the first tick gives back the level exactly
+// as it was built, so a restart plays the same as a new run. A rewound shot goes on without Box2D's
+// contact history and may play out slightly differently than the first time, so a recording of a
+// rewound run, which holds no rewind, is not guaranteed to replay it exactly.
+public abstract class LevelSimulation implements DamageSystem.Listener {
+    public enum Outcome { PLAYING, WON, LOST }
+    private static final Outcome[] OUTCOMES = Outcome.values();
+
+    // Layout of capture(), with the entity and level sections; change it whenever they change so
+    // old saves are refused instead of read wrong
+    public static final int SNAPSHOT_VERSION = 1;
+
+    // Bird flight, in pixels per tick
+    public static final float GRAVITY = -0.05f;
+    public static final float DAMPING = 0.98f;
+    public static final float BIRD_RADIUS = 25;
+
+    // How far the sling stretches, in pixels
+    public static final float SLINGSHOT_RADIUS = 150;
+
+    protected final float worldWidth;
+    protected final float worldHeight;
+    protected final float groundY;
+
+    private final CommandSource commands;
+    private final SlingCommand command = new SlingCommand();
+    private int tick = 0;
+    private Outcome outcome = Outcome.PLAYING;
+
+    // Teleports, spawns and anything else left to chance; rules split their own streams off it
+    protected final WorldRandom random;
+
+    // Level bodies are Box2D bodies; the birds keep their own flight model
+    public final EntityStore entities;
+    protected final PhysicsWorld physics;
+
+    // Hard impacts between bodies arrive as contact events, bird hits from a swept circle
+    protected final DamageSystem damage;
+
+    // Entity bounds for radius and sweep queries, or null to test every entity
+    protected final SpatialGrid grid;
+
+    // Birds in shooting order; the current one is on the sling or in flight
+    private final BirdType[] birds;
+    private final Vector2[] birdPositions;
+    private final Vector2[] previousBirdPositions;
+    protected int currentBird = 0;
+    protected final Vector2 birdVelocity = new Vector2();
+    private final Vector2 gravity = new Vector2(0, GRAVITY);
+    protected boolean isDragging = false;
+    protected boolean isBirdLaunched = false;
+
+    // Sling; launch speed per pixel the sling is pulled
+    public final Vector2 slingshotPosition;
+    private final float launchScale;
+    private final Vector2 touchPosition = new Vector2(); // Reused every tick while dragging
+
+    // The level at its first tick, and at the last tick a bird was ready on the sling
+    private final WorldSnapshot start = new WorldSnapshot();
+    private final WorldSnapshot lastShot = new WorldSnapshot();
+    private boolean isShotCaptured = false; // Since the current bird became ready
+
+    protected LevelSimulation(float worldWidth, float worldHeight, float groundY, CommandSource commands,
+                              WorldRandom random, int capacity, SpatialGrid grid, float launchScale, BirdType... birds) {
+        this(worldWidth, worldHeight, groundY, commands, random, capacity, grid, launchScale, null, birds);
+    }
+
+    // Steps the physics islands on the given pool, or on the calling thread when it is null
+    protected LevelSimulation(float worldWidth, float worldHeight, float groundY, CommandSource commands,
+                              WorldRandom random, int capacity, SpatialGrid grid, float launchScale,
+                              ForkJoinPool pool, BirdType... birds) {
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        this.groundY = groundY;
+        this.commands = commands;
+        this.random = random;
+        this.grid = grid;
+        this.launchScale = launchScale;
+
+        this.entities = new EntityStore(capacity);
+        this.physics = new PhysicsWorld(groundY, PhysicsWorld.DEFAULT_VELOCITY_ITERATIONS,
+            PhysicsWorld.DEFAULT_POSITION_ITERATIONS, true, pool);
+        this.physics.setBodyListener(entities);
+        this.damage = new DamageSystem(physics, entities, this);
+
+        // Birds wait in a row behind the sling
+        this.slingshotPosition = new Vector2(200, groundY + 40);
+        this.birds = birds;
+        this.birdPositions = new Vector2[birds.length];
+        this.previousBirdPositions = new Vector2[birds.length];
+        for (int i = 0; i < birds.length; i++) {
+            birdPositions[i] = new Vector2();
+            previousBirdPositions[i] = new Vector2();
+            resetBird(i);
+        }
+    }
+
+    // One simulation tick
+    public void step() {
+        if (outcome != Outcome.PLAYING) return;
+        if (!isShotCaptured && !isBirdLaunched && !isDragging) {
+            captureShot();
+        }
+        commands.next(tick, command);
+        tick++;
+
+        for (int i = 0; i < birds.length; i++) {
+            previousBirdPositions[i].set(birdPositions[i]);
+        }
+        entities.savePrevious();
+
+        // Each phase is timed for the frame profiler, which costs nothing while it is off
+        long phaseStart = FrameProfiler.begin();
+        if (canAim()) {
+            handleSling();
+        }
+        if (isBirdFlying()) {
+            updateBird();
+        }
+        phaseStart = FrameProfiler.lap(FrameProfiler.BIRD, phaseStart);
+        Vector2 current = birdPositions[currentBird];
+        Vector2 previous = previousBirdPositions[currentBird];
+        damage.sweepProjectile(grid, previous.x, previous.y, current.x, current.y, BIRD_RADIUS);
+        phaseStart = FrameProfiler.lap(FrameProfiler.BIRD_HITS, phaseStart);
+
+        // Support and stacking are resolved by Box2D; only bodies that moved are re-indexed
+        physics.step();
+        phaseStart = FrameProfiler.lap(FrameProfiler.PHYSICS, phaseStart);
+        entities.syncBodies(physics, grid);
+        phaseStart = FrameProfiler.lap(FrameProfiler.SYNC, phaseStart);
+        damage.flush();
+        phaseStart = FrameProfiler.lap(FrameProfiler.DAMAGE, phaseStart);
+        afterStep();
+        FrameProfiler.end(FrameProfiler.RULES, phaseStart);
+    }
+
+    // Level rules that run at the end of every tick: blasts, timers, win checks
+    protected abstract void afterStep();
+
+    // Whether the pointer can grab the current bird
+    protected boolean canAim() {
+        return !isBirdLaunched;
+    }
+
+    // Whether the current bird moves under gravity this tick
+    protected boolean isBirdFlying() {
+        return isBirdLaunched;
+    }
+
+    // The current bird just came down on the ground
+    protected abstract void onBirdLanded();
+
+    protected float getSpeedMultiplier(BirdType bird) {
+        return 1.0f;
+    }
+
+    private void handleSling() {
+        Vector2 position = birdPositions[currentBird];
+        if (command.pressed) {
+            touchPosition.set(command.x, command.y);
+
+            if (isDragging || touchPosition.dst(slingshotPosition) <= SLINGSHOT_RADIUS) {
+                isDragging = true;
+
+                if (touchPosition.dst(slingshotPosition) > SLINGSHOT_RADIUS) {
+                    position.set(touchPosition).sub(slingshotPosition).nor().scl(SLINGSHOT_RADIUS).add(slingshotPosition);
+                } else {
+                    position.set(touchPosition);
+                }
+                // A dragged bird follows the pointer exactly, no interpolation
+                previousBirdPositions[currentBird].set(position);
+            }
+        } else if (isDragging) {
+            // Launch bird on release
+            isDragging = false;
+            isBirdLaunched = true;
+            isShotCaptured = false;
+            birdVelocity.set(slingshotPosition).sub(position).scl(getLaunchSpeed());
+        }
+    }
+
+    private void updateBird() {
+        Vector2 position = birdPositions[currentBird];
+        birdVelocity.add(gravity);
+        birdVelocity.scl(DAMPING);
+        position.add(birdVelocity);
+
+        if (position.y <= groundY) {
+            position.y = groundY;
+            birdVelocity.setZero();
+            onBirdLanded();
+        }
+    }
+
+    // Puts a bird back in its place behind the sling
+    protected void resetBird(int index) {
+        birdPositions[index].set(slingshotPosition.x - 30 - 20 * index, slingshotPosition.y);
+        previousBirdPositions[index].set(birdPositions[index]);
+    }
+
+    // The next bird takes the sling
+    protected void nextBird() {
+        currentBird++;
+        isBirdLaunched = false;
+    }
+
+    // A bird is ready on the sling; the level is saved for restart() or rewindShot()
+    private void captureShot() {
+        isShotCaptured = true;
+        if (tick == 0) {
+            capture(start); // Restoring it rebuilds the level exactly as constructed
+            lastShot.clear();
+        } else {
+            capture(lastShot);
+        }
+    }
+
+    // Plays the level again from its first tick; returns false when it is not known, before
+    // the first tick
+    public boolean restart() {
+        if (start.isEmpty()) return false;
+        restore(start);
+        lastShot.clear();
+        return true;
+    }
+
+    // Goes back to the last time a bird was ready on the sling, undoing the shot that followed.
+    // Returns false when there is nothing to go back to.
+    public boolean rewindShot() {
+        if (!lastShot.isEmpty()) {
+            restore(lastShot);
+            return true;
+        }
+        if (!start.isEmpty()) {
+            restore(start);
+            return true;
+        }
+        return false;
+    }
+
+    // Saves the level with its restart and rewind points
+    public void save(LevelSave save) {
+        capture(save.current);
+        save.start.set(start);
+        save.lastShot.set(lastShot);
+    }
+
+    // Continues a saved run; the level must be the one saved, built with the saved seed
+    public void load(LevelSave save) {
+        start.set(save.start);
+        lastShot.set(save.lastShot);
+        restore(save.current);
+    }
+
+    // Saves the level as it is at the start of the current tick
+    public void capture(WorldSnapshot snapshot) {
+        int bytes = 4 + 1 + WorldRandom.SNAPSHOT_BYTES + 4 + 2 * 4 + 3 + birds.length * 4 * 4
+            + entities.snapshotSize() + stateSize();
+        ByteBuffer out = snapshot.begin(tick, bytes);
+        out.putInt(tick);
+        out.put((byte) outcome.ordinal());
+        random.write(out);
+        out.putInt(currentBird);
+        out.putFloat(birdVelocity.x).putFloat(birdVelocity.y);
+        out.put((byte) (isDragging ? 1 : 0));
+        out.put((byte) (isBirdLaunched ? 1 : 0));
+        out.put((byte) (isShotCaptured ? 1 : 0));
+        for (int i = 0; i < birds.length; i++) {
+            out.putFloat(birdPositions[i].x).putFloat(birdPositions[i].y);
+            out.putFloat(previousBirdPositions[i].x).putFloat(previousBirdPositions[i].y);
+        }
+        entities.write(out);
+        writeState(out);
+        snapshot.end();
+    }
+
+    // Puts the level back the way capture() saved it; the next step() runs the saved tick again.
+    // The Box2D worlds are replaced, so Body references taken before are no longer valid.
+    public void restore(WorldSnapshot snapshot) {
+        ByteBuffer in = snapshot.read();
+        tick = in.getInt();
+        outcome = OUTCOMES[in.get()];
+        random.read(in);
+        currentBird = in.getInt();
+        birdVelocity.set(in.getFloat(), in.getFloat());
+        isDragging = in.get() != 0;
+        isBirdLaunched = in.get() != 0;
+        isShotCaptured = in.get() != 0;
+        for (int i = 0; i < birds.length; i++) {
+            birdPositions[i].set(in.getFloat(), in.getFloat());
+            previousBirdPositions[i].set(in.getFloat(), in.getFloat());
+        }
+
+        physics.clear();
+        entities.read(in, physics);
+        if (grid != null) {
+            grid.clear();
+            for (int i = 0; i < entities.size; i++) {
+                grid.update(entities.idAt(i), entities.x[i], entities.y[i],
+                    entities.width[i], entities.height[i], entities.rotation[i]);
+            }
+        }
+        readState(in);
+    }
+
+    // Bytes writeState() takes; levels with rules of their own save them after the shared state
+    protected int stateSize() {
+        return 0;
+    }
+
+    protected void writeState(ByteBuffer out) {}
+
+    protected void readState(ByteBuffer in) {}
+
+    // Everything the bird touches is knocked back at the hit point and takes damage from the impact
+    @Override
+    public void onHit(int id, float x, float y) {
+        PhysicsWorld.push(entities.bodies[entities.indexOf(id)], birdVelocity.x * 0.5f, birdVelocity.y * 0.5f, x, y);
+        damage.applyProjectileImpact(id, birdVelocity.x, birdVelocity.y);
+    }
+
+    // Removed entities drop out of the grid, the world and any damage still queued for them
+    protected void removeEntity(int id) {
+        if (grid != null) {
+            grid.remove(id);
+        }
+        entities.destroy(id, physics);
+    }
+
+    // True once every pig has one of the given flags, e.g. HURT
+    protected boolean allPigsHit(int doneFlags) {
+        for (int i = 0; i < entities.size; i++) {
+            if (entities.materials[i] == Material.PIG && !entities.hasFlag(i, doneFlags)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    protected void win() {
+        if (outcome == Outcome.PLAYING) outcome = Outcome.WON;
+    }
+
+    protected void lose() {
+        if (outcome == Outcome.PLAYING) outcome = Outcome.LOST;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    // Number of ticks run since the level started
+    public int getTick() {
+        return tick;
+    }
+
+    public long getSeed() {
+        return random.getSeed();
+    }
+
+    public float getWorldWidth() {
+        return worldWidth;
+    }
+
+    public float getWorldHeight() {
+        return worldHeight;
+    }
+
+    public float getGroundY() {
+        return groundY;
+    }
+
+    public BirdType getCurrentBirdType() {
+        return birds[currentBird];
+    }
+
+    public Vector2 getBirdPosition(BirdType bird) {
+        return birdPositions[indexOf(bird)];
+    }
+
+    public Vector2 getPreviousBirdPosition(BirdType bird) {
+        return previousBirdPositions[indexOf(bird)];
+    }
+
+    public boolean isDragging() {
+        return isDragging;
+    }
+
+    public boolean isBirdLaunched() {
+        return isBirdLaunched;
+    }
+
+    // Launch speed of the current bird per pixel the sling is pulled
+    public float getLaunchSpeed() {
+        return launchScale * getSpeedMultiplier(birds[currentBird]);
+    }
+
+    public void dispose() {
+        physics.dispose();
+    }
+
+    private int indexOf(BirdType bird) {
+        for (int i = 0; i < birds.length; i++) {
+            if (birds[i] == bird) return i;
+        }
+        throw new IllegalArgumentException("No " + bird + " bird in this level");
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.akanksha23056.Core;
+
+import com.badlogic.gdx.utils.BooleanArray;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+
+// A fixed input script for tests, benchmarks and bots.
+// The script is a list of keyframes in tick order; the pointer keeps the state of the last
+// keyframe until the next one, and is up before the first.
+public class ScriptedCommands implements CommandSource {
+    private final IntArray ticks = new IntArray();
+    private final BooleanArray pressed = new BooleanArray();
+    private final FloatArray xs = new FloatArray();
+    private final FloatArray ys = new FloatArray();
+
+    private int cursor = -1;
+    private int lastTick = -1;
+
+    // The pointer is down at (x, y) from this tick on
+    public ScriptedCommands press(int tick, float x, float y) {
+        add(tick, true, x, y);
+        return this;
+    }
+
+    // The pointer is up from this tick on
+    public ScriptedCommands release(int tick) {
+        add(tick, false, xs.size > 0 ? xs.peek() : 0, ys.size > 0 ? ys.peek() : 0);
+        return this;
+    }
+
+    // Grabs the bird on the sling, pulls it to (pullX, pullY) on the next tick and lets go on the
+    // one after; returns the tick of the release
+    public int shot(int tick, float slingX, float slingY, float pullX, float pullY) {
+        press(tick, slingX, slingY);
+        press(tick + 1, pullX, pullY);
+        release(tick + 2);
+        return tick + 2;
+    }
+
+    // Tick of the last keyframe, or -1 for an empty script
+    public int getLastTick() {
+        return ticks.size > 0 ? ticks.peek() : -1;
+    }
+
+    @Override
+    public void next(int tick, SlingCommand command) {
+        if (tick < lastTick) cursor = -1; // The level restarted
+        lastTick = tick;
+        while (cursor + 1 < ticks.size && ticks.get(cursor + 1) <= tick) {
+            cursor++;
+        }
+        if (cursor < 0) {
+            command.set(false, 0, 0);
+        } else {
+            command.set(pressed.get(cursor), xs.get(cursor), ys.get(cursor));
+        }
+    }
+
+    private void add(int tick, boolean down, float x, float y) {
+        if (ticks.size > 0 && tick < ticks.peek()) {
+            throw new IllegalArgumentException("Keyframes must be added in tick order: " + tick + " after " + ticks.peek());
+        }
+        ticks.add(tick);
+        pressed.add(down);
+        xs.add(x);
+        ys.add(y);
+    }
+}
@@ -0,0 +1,14 @@
+package io.github.akanksha23056.Core;
+
+// The pointer as the simulation sees it for one tick, in world pixels with y pointing up
+public final class SlingCommand {
+    public boolean pressed;
+    public float x;
+    public float y;
+
+    public void set(boolean pressed, float x, float y) {
+        this.pressed = pressed;
+        this.x = x;
+        this.y = y;
+    }
+}
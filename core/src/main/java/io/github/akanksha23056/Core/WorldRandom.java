@@ -0,0 +1,108 @@
+package io.github.akanksha23056.Core;
+
+import java.nio.ByteBuffer;
+
+// Random numbers for one world, from a seed.
+// Every simulation is handed its own generator instead of sharing Math.random()'s global one, so
+// simulations running side by side never contend on it, and the same seed gives the same run
+// (InputRecording stores it). split() hands a subsystem a stream of its own, so how often one
+// rule rolls the dice does not change what another rule gets.
+// The generator is SplitMix64, the algorithm behind java.util.SplittableRandom, kept here with
+// the same output so its whole state is two longs that a WorldSnapshot can save and put back.
+// Not thread-safe: a generator belongs to the thread stepping its world; split it for another.
+public final class WorldRandom {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    // Bytes write() takes
+    public static final int SNAPSHOT_BYTES = 16;
+
+    private final long seed;
+    private long state;
+    private long gamma;
+
+    public WorldRandom(long seed) {
+        this(seed, seed, GOLDEN_GAMMA);
+    }
+
+    private WorldRandom(long seed, long state, long gamma) {
+        this.seed = seed;
+        this.state = state;
+        this.gamma = gamma;
+    }
+
+    // An independent stream; the same parent state always splits off the same stream
+    public WorldRandom split() {
+        return new WorldRandom(seed, nextLong(), mixGamma(nextState()));
+    }
+
+    // Seed of the world this stream (or its parent) started from
+    public long getSeed() {
+        return seed;
+    }
+
+    public long nextLong() {
+        return mix64(nextState());
+    }
+
+    // Uniform in [0, bound)
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Bound must be positive: " + bound);
+        }
+        int r = mix32(nextState());
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return r & m; // Power of two
+        }
+        // Rejects the top, uneven part of the range so every value is equally likely
+        int u = r >>> 1;
+        while (u + m - (r = u % bound) < 0) {
+            u = mix32(nextState()) >>> 1;
+        }
+        return r;
+    }
+
+    // Uniform in [0, 1), from the top 24 bits so it never rounds up to 1
+    public float nextFloat() {
+        return (mix32(nextState()) >>> 8) * 0x1.0p-24f;
+    }
+
+    // Uniform in [min, max)
+    public float nextFloat(float min, float max) {
+        return min + nextFloat() * (max - min);
+    }
+
+    public void write(ByteBuffer out) {
+        out.putLong(state).putLong(gamma);
+    }
+
+    // Continues from a state write() saved; the seed stays the one this stream was made with
+    public void read(ByteBuffer in) {
+        state = in.getLong();
+        gamma = in.getLong();
+    }
+
+    private long nextState() {
+        return state += gamma;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int mix32(long z) {
+        z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+
+    // Gammas must be odd and have enough bit transitions to spread the states of a split stream
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int transitions = Long.bitCount(z ^ (z >>> 1));
+        return transitions < 24 ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+}
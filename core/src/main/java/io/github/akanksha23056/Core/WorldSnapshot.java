@@ -0,0 +1,105 @@
+package io.github.akanksha23056.Core;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+// Everything that changes while a level is played, at the start of one tick, in one flat buffer:
+// the entity arrays, each body's transform and velocity, the birds, the random streams and the
+// level's own rules. LevelSimulation.capture() fills it and restore() puts the level back; only
+// the Box2D bodies are created again, so a restart or a rewound shot costs microseconds instead
+// of building the screen and its level again.
+// The buffer is reused and only grows. It is little-endian, the native order of every platform
+// the game runs on, so LevelSave copies it to and from disk as it is; LevelSimulation's
+// SNAPSHOT_VERSION changes with its layout.
+public final class WorldSnapshot {
+    private ByteBuffer buffer = allocate(1024);
+    private int tick = -1;
+
+    // True until something is captured into it
+    public boolean isEmpty() {
+        return tick < 0;
+    }
+
+    // Tick the level was at when captured, -1 when empty
+    public int getTick() {
+        return tick;
+    }
+
+    // Bytes in use
+    public int size() {
+        return buffer.limit();
+    }
+
+    public void clear() {
+        tick = -1;
+        buffer.clear().limit(0);
+    }
+
+    // Makes this a copy of another snapshot
+    public void set(WorldSnapshot other) {
+        ByteBuffer source = other.buffer.duplicate();
+        source.position(0);
+        ensureCapacity(source.limit());
+        buffer.clear();
+        buffer.put(source);
+        buffer.flip();
+        tick = other.tick;
+    }
+
+    // Bytes writeTo() takes
+    int fileSize() {
+        return 2 * 4 + size();
+    }
+
+    // The tick, the length and the bytes
+    void writeTo(ByteBuffer out) {
+        ByteBuffer source = buffer.duplicate();
+        source.position(0);
+        out.putInt(tick).putInt(source.limit());
+        out.put(source);
+    }
+
+    // Reads what writeTo() wrote, leaving the source after it
+    void readFrom(ByteBuffer in) {
+        int tick = in.getInt();
+        int length = in.getInt();
+        if (length < 0 || length > in.remaining()) {
+            throw new IllegalArgumentException("Snapshot of " + length + " bytes with only " + in.remaining() + " left");
+        }
+        ByteBuffer source = in.slice();
+        source.limit(length);
+        ensureCapacity(length);
+        buffer.clear();
+        buffer.put(source);
+        buffer.flip();
+        in.position(in.position() + length);
+        this.tick = tick;
+    }
+
+    // Starts writing a snapshot of at most the given size, replacing the old contents
+    ByteBuffer begin(int tick, int bytes) {
+        ensureCapacity(bytes);
+        this.tick = tick;
+        return buffer.clear();
+    }
+
+    // Ends writing
+    void end() {
+        buffer.flip();
+    }
+
+    // Positioned at the start for reading
+    ByteBuffer read() {
+        return buffer.position(0);
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (buffer.capacity() < bytes) {
+            buffer = allocate(Math.max(bytes, buffer.capacity() * 2));
+        }
+    }
+
+    private static ByteBuffer allocate(int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
@@ -0,0 +1,256 @@
+package io.github.akanksha23056.Debug;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.utils.LongArray;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectLongMap;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import io.github.akanksha23056.Core.InputRecording;
+import io.github.akanksha23056.Core.ScriptedCommands;
+import io.github.akanksha23056.Main;
+import io.github.akanksha23056.Physics.FixedTimestep;
+import io.github.akanksha23056.TextureQuality;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Locale;
+
+// Whole-game benchmark: plays one level with a fixed shot script, or a recorded run, for a set
+// number of frames, then writes a report with frame-time percentiles, batch and GL calls, heap
+// use and GC pauses.
+// Every frame advances the level by exactly one tick however long it took, so runs on different
+// builds and machines do the same work and only the time differs. The launcher turns vsync and
+// the FPS cap off. The level starts over when it ends, or once the script has run out and the
+// level had time to settle, so any number of frames can be played.
+public class BenchmarkRun extends Main {
+    public static final int DEFAULT_FRAMES = 20000;
+
+    // Frames played before measuring starts, for loading and the JIT
+    public static final int WARMUP_FRAMES = 300;
+
+    // Ticks a level keeps running after the last shot before it starts over
+    private static final int SETTLE_TICKS = 300;
+
+    // Pull for every shot; the press is near enough to each level's sling (200, ground + 40) to grab it
+    private static final float PRESS_X = 200;
+    private static final float PRESS_Y = 120;
+    private static final float PULL_X = 80;
+    private static final float PULL_Y = 90;
+    private static final int TICKS_BETWEEN_SHOTS = 300;
+
+    // Scripted runs always draw the same random events
+    private static final long SEED = 1;
+
+    private final int level;
+    private final int frames;
+    private final String reportPath;
+    private final ScriptedCommands script = new ScriptedCommands();
+    private final InputRecording replay; // Played instead of the script when set
+    private final int scriptEnd;
+
+    private GLProfiler glProfiler;
+    private final long[] frameNanos;
+    private int frame = -WARMUP_FRAMES; // Measured from 0 on
+    private long frameStart;
+    private long measureStart;
+    private int startRenderCalls;
+    private int levelTicks = 0;
+    private int restarts = 0;
+    private long peakHeap = 0;
+
+    // Pauses reported by the collectors while measuring, by collector name
+    private volatile boolean measuring = false;
+    private final LongArray pauses = new LongArray();
+    private final ObjectIntMap<String> pausesByCollector = new ObjectIntMap<>();
+    private final ObjectLongMap<String> pauseMillisByCollector = new ObjectLongMap<>();
+
+    public BenchmarkRun(TextureQuality textureQuality, int level, int frames, String reportPath) {
+        this(textureQuality, level, frames, reportPath, null);
+    }
+
+    // Benchmarks a recorded run of its level
+    public BenchmarkRun(TextureQuality textureQuality, InputRecording replay, int frames, String reportPath) {
+        this(textureQuality, replay.getLevel(), frames, reportPath, replay);
+    }
+
+    private BenchmarkRun(TextureQuality textureQuality, int level, int frames, String reportPath, InputRecording replay) {
+        super(textureQuality);
+        this.level = level;
+        this.frames = frames;
+        this.reportPath = reportPath;
+        this.replay = replay;
+        this.frameNanos = new long[frames];
+
+        if (replay != null) {
+            this.scriptEnd = replay.getLastTick();
+        } else {
+            // Three birds' worth of shots, the level ends or settles after the last
+            int tick = script.shot(30, PRESS_X, PRESS_Y, PULL_X, PULL_Y);
+            tick = script.shot(tick + TICKS_BETWEEN_SHOTS, PRESS_X, PRESS_Y, PULL_X, PULL_Y);
+            this.scriptEnd = script.shot(tick + TICKS_BETWEEN_SHOTS, PRESS_X, PRESS_Y, PULL_X, PULL_Y);
+        }
+    }
+
+    @Override
+    public void create() {
+        super.create();
+        musicMuted = true; // Music streams on its own thread and would only add noise
+        glProfiler = new GLProfiler(Gdx.graphics);
+        listenForPauses();
+
+        // Straight into the level, past the splash; textures it did not preload load on acquire
+        Screen splash = getScreen();
+        if (replay != null) {
+            screens.playReplay(replay);
+        } else {
+            screens.setCommands(script);
+            screens.setSeed(SEED);
+            screens.showLevel(level);
+        }
+        splash.dispose();
+    }
+
+    @Override
+    public void render() {
+        if (frame > frames) return; // Report written, waiting for the exit
+        long now = System.nanoTime();
+        if (frame == 0) {
+            startMeasuring(now);
+        } else if (frame > 0) {
+            frameNanos[frame - 1] = now - frameStart;
+            long heap = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+            peakHeap = Math.max(peakHeap, heap);
+        }
+        if (frame == frames) {
+            finish(now);
+            frame++;
+            return;
+        }
+        frameStart = now;
+
+        if (!screens.isPlayingLevel() || levelTicks > scriptEnd + SETTLE_TICKS) {
+            screens.showLevel(level);
+            levelTicks = 0;
+            if (frame >= 0) restarts++;
+        }
+        levelTicks++;
+        super.render();
+        frame++;
+    }
+
+    // One tick per frame, whatever the frame took
+    @Override
+    protected float getFrameDelta() {
+        return FixedTimestep.STEP;
+    }
+
+    private void startMeasuring(long now) {
+        measureStart = now;
+        glProfiler.enable();
+        glProfiler.reset();
+        startRenderCalls = batch.totalRenderCalls;
+        measuring = true;
+    }
+
+    private void finish(long now) {
+        measuring = false;
+        int drawCalls = glProfiler.getDrawCalls();
+        int textureBinds = glProfiler.getTextureBindings();
+        int renderCalls = batch.totalRenderCalls - startRenderCalls;
+        glProfiler.disable();
+
+        String report = buildReport(now - measureStart, renderCalls, drawCalls, textureBinds);
+        Gdx.files.local(reportPath).writeString(report, false);
+        System.out.print(report);
+        System.out.println("Report written to " + Gdx.files.local(reportPath).file().getAbsolutePath());
+        Gdx.app.exit();
+    }
+
+    private String buildReport(long totalNanos, int renderCalls, int drawCalls, int textureBinds) {
+        long[] sorted = Arrays.copyOf(frameNanos, frames);
+        Arrays.sort(sorted);
+        Runtime runtime = Runtime.getRuntime();
+        StringBuilder report = new StringBuilder();
+
+        line(report, "Benchmark: level %d (%s), %d frames after %d warm-up, one tick per frame, %d restarts",
+            level, replay != null ? "replay, seed " + Long.toHexString(replay.getSeed()) : "shot script",
+            frames, WARMUP_FRAMES, restarts);
+        line(report, "Java: %s (%s), OS: %s %s %s, %d CPUs", System.getProperty("java.version"),
+            System.getProperty("java.vendor"), System.getProperty("os.name"), System.getProperty("os.version"),
+            System.getProperty("os.arch"), runtime.availableProcessors());
+        line(report, "GL: %s, %s", Gdx.gl.glGetString(GL20.GL_RENDERER), Gdx.gl.glGetString(GL20.GL_VERSION));
+        line(report, "Window: %dx%d, textures: %s", Gdx.graphics.getWidth(), Gdx.graphics.getHeight(),
+            textures.getQuality());
+        line(report, "Time: %.2f s, %.1f FPS", totalNanos / 1e9, frames / (totalNanos / 1e9));
+        line(report, "Frame time (ms): min %.3f, p50 %.3f, p90 %.3f, p99 %.3f, p99.9 %.3f, max %.3f",
+            millis(sorted[0]), millis(percentile(sorted, 50)), millis(percentile(sorted, 90)),
+            millis(percentile(sorted, 99)), millis(percentile(sorted, 99.9)), millis(sorted[frames - 1]));
+        line(report, "Per frame: %.2f batch render calls, %.2f GL draw calls, %.2f texture binds",
+            (double) renderCalls / frames, (double) drawCalls / frames, (double) textureBinds / frames);
+        line(report, "Heap (MB): %.1f used at end, %.1f peak, %.1f committed, %.1f max",
+            megabytes(runtime.totalMemory() - runtime.freeMemory()), megabytes(peakHeap),
+            megabytes(runtime.totalMemory()), megabytes(runtime.maxMemory()));
+
+        synchronized (pauses) {
+            long total = 0;
+            long max = 0;
+            for (int i = 0; i < pauses.size; i++) {
+                total += pauses.get(i);
+                max = Math.max(max, pauses.get(i));
+            }
+            line(report, "GC: %d collections, %d ms total, %d ms longest", pauses.size, total, max);
+            for (ObjectIntMap.Entry<String> entry : pausesByCollector) {
+                line(report, "  %s: %d collections, %d ms", entry.key, entry.value,
+                    pauseMillisByCollector.get(entry.key, 0));
+            }
+        }
+        return report.toString();
+    }
+
+    // Every collector reports each collection and how long it took once it is over
+    private void listenForPauses() {
+        NotificationListener listener = (Notification notification, Object handback) -> {
+            if (!measuring || !notification.getType().equals(GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION)) {
+                return;
+            }
+            GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+            long millis = info.getGcInfo().getDuration();
+            synchronized (pauses) {
+                pauses.add(millis);
+                pausesByCollector.getAndIncrement(info.getGcName(), 0, 1);
+                pauseMillisByCollector.getAndIncrement(info.getGcName(), 0, millis);
+            }
+        };
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (collector instanceof NotificationEmitter) {
+                ((NotificationEmitter) collector).addNotificationListener(listener, null, null);
+            }
+        }
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private static double megabytes(long bytes) {
+        return bytes / (1024.0 * 1024.0);
+    }
+
+    private static void line(StringBuilder report, String format, Object... args) {
+        report.append(String.format(Locale.ROOT, format, args)).append('\n');
+    }
+}
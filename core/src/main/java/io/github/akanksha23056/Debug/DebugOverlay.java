@@ -0,0 +1,127 @@
+package io.github.akanksha23056.Debug;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.StringBuilder;
+
+// Debug text drawn on top of every screen, toggled with F3.
+// Shows the live GPU textures and how much of them each screen or entity type holds,
+// and where the frame time goes: CPU time per phase, frame-time percentiles, batch flushes,
+// GL draw calls and texture binds, and garbage collections. Phases and GL calls are only
+// measured while the overlay is shown.
+public class DebugOverlay implements Disposable {
+    private static final int TOGGLE_KEY = Input.Keys.F3;
+    private static final float MARGIN = 10f;
+
+    private final SpriteBatch batch;
+    private final BitmapFont font;
+    private final StringBuilder text = new StringBuilder();
+    private final Array<String> owners = new Array<>();
+    private final GLProfiler glProfiler;
+    private int startRenderCalls = 0;
+    private boolean visible = false;
+
+    public DebugOverlay(SpriteBatch batch) {
+        this.batch = batch;
+        this.font = new BitmapFont();
+        this.font.setColor(Color.YELLOW);
+        GpuResourceTracker.ownedTextureCreated(this, font.getRegion().getTexture());
+        this.glProfiler = new GLProfiler(Gdx.graphics);
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    public void render() {
+        if (Gdx.input.isKeyJustPressed(TOGGLE_KEY)) {
+            visible = !visible;
+            FrameProfiler.setEnabled(visible);
+            // The profiler swaps in a GL wrapper that counts every call, so it only runs while shown
+            if (visible) {
+                glProfiler.enable();
+            } else {
+                glProfiler.disable();
+            }
+            glProfiler.reset();
+            startRenderCalls = batch.totalRenderCalls;
+        }
+        if (!visible) return;
+
+        text.setLength(0);
+        appendFrameTimes();
+
+        text.append("Textures: ").append(GpuResourceTracker.getLiveTextureCount())
+            .append(" live, ");
+        appendKilobytes(GpuResourceTracker.getLiveBytes());
+        text.append('\n');
+
+        GpuResourceTracker.getOwners(owners);
+        for (String owner : owners) {
+            text.append("  ").append(owner).append(": ")
+                .append(GpuResourceTracker.getReferenceCount(owner)).append(" refs, ");
+            appendKilobytes(GpuResourceTracker.getReferencedBytes(owner));
+            text.append('\n');
+        }
+
+        batch.begin();
+        font.draw(batch, text, MARGIN, Gdx.graphics.getHeight() - MARGIN);
+        batch.end();
+
+        // The overlay's own drawing is left out of the next frame's counts
+        glProfiler.reset();
+        startRenderCalls = batch.totalRenderCalls;
+    }
+
+    // Rolling frame and phase times, then what the last frame sent to the GPU
+    private void appendFrameTimes() {
+        text.append("Frame: p50 ");
+        appendMillis(FrameProfiler.getFramePercentileNanos(50));
+        text.append(", p95 ");
+        appendMillis(FrameProfiler.getFramePercentileNanos(95));
+        text.append(", p99 ");
+        appendMillis(FrameProfiler.getFramePercentileNanos(99));
+        text.append(", max ");
+        appendMillis(FrameProfiler.getFramePercentileNanos(100));
+        text.append(" over ").append(FrameProfiler.getFrameCount()).append(" frames\n");
+
+        for (int phase = 0; phase < FrameProfiler.PHASE_COUNT; phase++) {
+            text.append("  ").append(FrameProfiler.getPhaseName(phase)).append(": ");
+            appendMillis(FrameProfiler.getPhaseAverageNanos(phase));
+            text.append(" avg, ");
+            appendMillis(FrameProfiler.getPhaseMaxNanos(phase));
+            text.append(" max\n");
+        }
+
+        text.append("Batch: ").append(batch.totalRenderCalls - startRenderCalls).append(" render calls, ")
+            .append(glProfiler.getDrawCalls()).append(" draw calls, ")
+            .append(glProfiler.getTextureBindings()).append(" texture binds\n");
+        text.append("GC: ").append(FrameProfiler.getCollections()).append(" collections, ")
+            .append(FrameProfiler.getCollectionMillis()).append(" ms since shown\n");
+    }
+
+    // Nanoseconds as milliseconds with two decimals, without going through a float
+    private void appendMillis(long nanos) {
+        long hundredths = nanos / 10_000;
+        text.append(hundredths / 100).append('.');
+        if (hundredths % 100 < 10) text.append('0');
+        text.append(hundredths % 100).append(" ms");
+    }
+
+    private void appendKilobytes(long bytes) {
+        text.append(bytes / 1024).append(" KB");
+    }
+
+    @Override
+    public void dispose() {
+        glProfiler.disable();
+        GpuResourceTracker.ownedTextureDisposed(this, font.getRegion().getTexture());
+        font.dispose();
+    }
+}
@@ -0,0 +1,167 @@
+package io.github.akanksha23056.Debug;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+
+// CPU time per frame phase and frame-time percentiles over the last WINDOW frames.
+// Code being measured brackets a phase with begin() and end(), or chains phases with lap().
+// While profiling is off begin() returns -1 and the other calls return straight away, so the
+// instrumented code pays one static read per call. Nothing allocates: history lives in fixed
+// ring buffers and the percentiles sort into a preallocated scratch array.
+// Main calls endFrame() once per rendered frame; the debug overlay reads the results.
+public final class FrameProfiler {
+    // Phases of a frame; the simulation ones add up over every tick the frame ran
+    public static final int BIRD = 0;
+    public static final int BIRD_HITS = 1;
+    public static final int PHYSICS = 2;
+    public static final int SYNC = 3;
+    public static final int DAMAGE = 4;
+    public static final int RULES = 5;
+    public static final int DRAW = 6;
+    public static final int PHASE_COUNT = 7;
+    private static final String[] PHASE_NAMES = {
+        "Bird", "Bird hits", "Physics", "Body sync", "Damage", "Level rules", "Draw"
+    };
+
+    // Frames the rolling numbers cover, four seconds at 60 FPS
+    public static final int WINDOW = 240;
+
+    private static final GarbageCollectorMXBean[] COLLECTORS = collectors();
+
+    private static boolean enabled = false;
+    private static long frameStart = -1;
+    private static final long[] currentPhases = new long[PHASE_COUNT];
+
+    // Ring buffers, one slot per frame
+    private static final long[][] phaseHistory = new long[PHASE_COUNT][WINDOW];
+    private static final long[] frameHistory = new long[WINDOW];
+    private static final long[] sortedFrames = new long[WINDOW];
+    private static int next = 0;
+    private static int recorded = 0;
+
+    // Collector totals when profiling started
+    private static long startCollections = 0;
+    private static long startCollectionMillis = 0;
+
+    private FrameProfiler() {}
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    // Turning profiling on starts a new window
+    public static void setEnabled(boolean enabled) {
+        if (enabled == FrameProfiler.enabled) return;
+        FrameProfiler.enabled = enabled;
+        if (enabled) {
+            frameStart = -1;
+            next = 0;
+            recorded = 0;
+            Arrays.fill(currentPhases, 0);
+            startCollections = collectionCount();
+            startCollectionMillis = collectionMillis();
+        }
+    }
+
+    // Returns a token for end() or lap(), or -1 when profiling is off
+    public static long begin() {
+        return enabled ? System.nanoTime() : -1;
+    }
+
+    public static void end(int phase, long start) {
+        if (start < 0) return;
+        currentPhases[phase] += System.nanoTime() - start;
+    }
+
+    // Ends a phase and starts the next one: returns the token for the next end() or lap()
+    public static long lap(int phase, long start) {
+        if (start < 0) return -1;
+        long now = System.nanoTime();
+        currentPhases[phase] += now - start;
+        return now;
+    }
+
+    // Closes the frame that started at the previous call; its time includes waiting for vsync
+    public static void endFrame() {
+        if (!enabled) return;
+        long now = System.nanoTime();
+        if (frameStart >= 0) {
+            frameHistory[next] = now - frameStart;
+            for (int phase = 0; phase < PHASE_COUNT; phase++) {
+                phaseHistory[phase][next] = currentPhases[phase];
+            }
+            next = (next + 1) % WINDOW;
+            recorded = Math.min(recorded + 1, WINDOW);
+        }
+        Arrays.fill(currentPhases, 0);
+        frameStart = now;
+    }
+
+    // Number of frames in the window so far
+    public static int getFrameCount() {
+        return recorded;
+    }
+
+    public static String getPhaseName(int phase) {
+        return PHASE_NAMES[phase];
+    }
+
+    public static long getPhaseAverageNanos(int phase) {
+        if (recorded == 0) return 0;
+        long total = 0;
+        for (int i = 0; i < recorded; i++) {
+            total += phaseHistory[phase][i];
+        }
+        return total / recorded;
+    }
+
+    public static long getPhaseMaxNanos(int phase) {
+        long max = 0;
+        for (int i = 0; i < recorded; i++) {
+            max = Math.max(max, phaseHistory[phase][i]);
+        }
+        return max;
+    }
+
+    // Frame time at a percentile between 0 and 100 over the window, e.g. 99 for the 1% slowest
+    public static long getFramePercentileNanos(int percentile) {
+        if (recorded == 0) return 0;
+        System.arraycopy(frameHistory, 0, sortedFrames, 0, recorded);
+        Arrays.sort(sortedFrames, 0, recorded);
+        int index = (int) Math.ceil(percentile / 100.0 * recorded) - 1;
+        return sortedFrames[Math.max(0, Math.min(index, recorded - 1))];
+    }
+
+    // Garbage collections since profiling was turned on, over every collector
+    public static long getCollections() {
+        return collectionCount() - startCollections;
+    }
+
+    public static long getCollectionMillis() {
+        return collectionMillis() - startCollectionMillis;
+    }
+
+    private static long collectionCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean collector : COLLECTORS) {
+            count += Math.max(collector.getCollectionCount(), 0);
+        }
+        return count;
+    }
+
+    private static long collectionMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean collector : COLLECTORS) {
+            millis += Math.max(collector.getCollectionTime(), 0);
+        }
+        return millis;
+    }
+
+    // The bean list is built on every call, so it is fetched once
+    private static GarbageCollectorMXBean[] collectors() {
+        List<GarbageCollectorMXBean> beans = ManagementFactory.getGarbageCollectorMXBeans();
+        return beans.toArray(new GarbageCollectorMXBean[0]);
+    }
+}
@@ -0,0 +1,125 @@
+package io.github.akanksha23056.Debug;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectLongMap;
+
+// Counts live GPU textures and their estimated VRAM size.
+// Two views are kept:
+// - uploaded textures: every texture that currently exists on the GPU, whoever created it
+// - references per owner: how many textures (or atlas regions) each screen or entity type holds,
+//   and how many bytes those references account for
+// Everything is static so it can be read from the debug overlay and from headless code alike.
+public final class GpuResourceTracker {
+    private static int liveTextures = 0;
+    private static long liveBytes = 0;
+    private static final ObjectIntMap<String> referencesByOwner = new ObjectIntMap<>();
+    private static final ObjectLongMap<String> bytesByOwner = new ObjectLongMap<>();
+
+    private GpuResourceTracker() {}
+
+    public static synchronized void textureUploaded(Texture texture) {
+        liveTextures++;
+        liveBytes += estimateBytes(texture);
+    }
+
+    public static synchronized void textureDisposed(Texture texture) {
+        liveTextures--;
+        liveBytes -= estimateBytes(texture);
+    }
+
+    public static synchronized void referenceAcquired(Object owner, TextureRegion region) {
+        addReference(ownerName(owner), 1, estimateBytes(region));
+    }
+
+    public static synchronized void referenceReleased(Object owner, TextureRegion region) {
+        addReference(ownerName(owner), -1, -estimateBytes(region));
+    }
+
+    // For textures an entity creates and disposes itself instead of going through the TextureCache
+    public static synchronized void ownedTextureCreated(Object owner, Texture texture) {
+        textureUploaded(texture);
+        addReference(ownerName(owner), 1, estimateBytes(texture));
+    }
+
+    public static synchronized void ownedTextureDisposed(Object owner, Texture texture) {
+        textureDisposed(texture);
+        addReference(ownerName(owner), -1, -estimateBytes(texture));
+    }
+
+    private static void addReference(String name, int references, long bytes) {
+        int totalReferences = referencesByOwner.getAndIncrement(name, 0, references) + references;
+        long totalBytes = bytesByOwner.getAndIncrement(name, 0, bytes) + bytes;
+        if (totalReferences <= 0 && totalBytes <= 0) {
+            referencesByOwner.remove(name, 0);
+            bytesByOwner.remove(name, 0);
+        }
+    }
+
+    public static synchronized int getLiveTextureCount() {
+        return liveTextures;
+    }
+
+    public static synchronized long getLiveBytes() {
+        return liveBytes;
+    }
+
+    public static synchronized int getReferenceCount(String owner) {
+        return referencesByOwner.get(owner, 0);
+    }
+
+    public static synchronized long getReferencedBytes(String owner) {
+        return bytesByOwner.get(owner, 0);
+    }
+
+    // Fills the given array with the names of every owner that still holds a reference
+    public static synchronized void getOwners(Array<String> out) {
+        out.clear();
+        for (ObjectIntMap.Entry<String> entry : referencesByOwner) {
+            out.add(entry.key);
+        }
+        out.sort();
+    }
+
+    public static synchronized void reset() {
+        liveTextures = 0;
+        liveBytes = 0;
+        referencesByOwner.clear();
+        bytesByOwner.clear();
+    }
+
+    // Screens and entities pass themselves; the class name is the accounting key
+    private static String ownerName(Object owner) {
+        return owner instanceof String ? (String) owner : owner.getClass().getSimpleName();
+    }
+
+    public static long estimateBytes(Texture texture) {
+        return (long) texture.getWidth() * texture.getHeight() * bytesPerPixel(texture.getTextureData().getFormat());
+    }
+
+    // Atlas regions only account for their share of the page
+    public static long estimateBytes(TextureRegion region) {
+        return (long) region.getRegionWidth() * region.getRegionHeight()
+            * bytesPerPixel(region.getTexture().getTextureData().getFormat());
+    }
+
+    private static int bytesPerPixel(Pixmap.Format format) {
+        if (format == null) return 4;
+        switch (format) {
+            case Alpha:
+            case Intensity:
+                return 1;
+            case LuminanceAlpha:
+            case RGB565:
+            case RGBA4444:
+                return 2;
+            case RGB888:
+                return 3;
+            default:
+                return 4;
+        }
+    }
+}
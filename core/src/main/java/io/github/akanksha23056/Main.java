@@ -3,26 +3,54 @@ package io.github.akanksha23056;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Input;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import io.github.akanksha23056.Core.InputRecording;
+import io.github.akanksha23056.Core.LevelSave;
+import io.github.akanksha23056.Debug.DebugOverlay;
+import io.github.akanksha23056.Debug.FrameProfiler;
 import io.github.akanksha23056.Screen.GameScreen;
-import io.github.akanksha23056.Screen.HomeScreen;
-import io.github.akanksha23056.Screen.LevelsScreen;
+
+import java.io.IOException;
+import java.io.OutputStream;
 
 public class Main extends Game {
     public SpriteBatch batch;
     public Music backgroundMusic;
     public Sound buttonClickSound;
+    public TextureCache textures;
+    public ScreenManager screens;
     public boolean musicMuted = false;
     public boolean volumeMuted = false; // Track button click sound state
     public boolean[] unlockedLevels;
-    private LevelsScreen levelsScreen;
+    private DebugOverlay debugOverlay;
+    private final TextureQuality textureQuality;
+    private final InputRecording startupReplay; // Played instead of showing the home screen
+    private static final String SAVE_FILE = "saves/level.sav";
+
+    public Main() {
+        this(TextureQuality.DISPLAY);
+    }
 
-    public Main() {}
+    public Main(TextureQuality textureQuality) {
+        this(textureQuality, null);
+    }
+
+    public Main(TextureQuality textureQuality, InputRecording startupReplay) {
+        this.textureQuality = textureQuality;
+        this.startupReplay = startupReplay;
+    }
 
     public void create() {
+        Box2D.init(); // Level screens step a Box2D world
         this.batch = new SpriteBatch();
+        this.textures = new TextureCache(textureQuality);
+        this.screens = new ScreenManager(this);
+        this.debugOverlay = new DebugOverlay(batch);
         this.backgroundMusic = Gdx.audio.newMusic(Gdx.files.internal("song.mp3"));
         this.backgroundMusic.setLooping(true);
         this.backgroundMusic.setVolume(0.5f);
@@ -32,30 +60,18 @@ public class Main extends Game {
         // Initialize unlocked levels (only level 1 is unlocked initially)
         this.unlockedLevels = new boolean[]{true, false, false};
 
-        // Initialize LevelsScreen
-        this.levelsScreen = new LevelsScreen(this);
-
-        // Set the initial screen to GameScreen
+        // Set the initial screen to GameScreen, which preloads the menu and level textures
+        // and moves on to HomeScreen once they are ready
         this.setScreen(new GameScreen(this));
-
-        // Start a new thread for the timer
-        new Thread(() -> {
-            try {
-                Thread.sleep(3000);
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-            Gdx.app.postRunnable(() -> {
-                this.setScreen(new HomeScreen(this));
-                if (!musicMuted) {
-                    this.backgroundMusic.play();
-                }
-            });
-        }).start();
     }
 
-    public LevelsScreen getLevelsScreen() {
-        return levelsScreen;
+    // Called by the splash once loading is done
+    public void showFirstScreen() {
+        if (startupReplay != null) {
+            screens.playReplay(startupReplay);
+        } else {
+            screens.showHome();
+        }
     }
 
     public void unlockLevel(int levelIndex) {
@@ -99,12 +115,75 @@ public class Main extends Game {
     }
 
     public void render() {
-        super.render();
+        FrameProfiler.endFrame(); // A frame runs from one render() call to the next
+        this.screens.disposePending();
+        if (this.screen != null) {
+            this.screen.render(getFrameDelta());
+        }
+        this.debugOverlay.render();
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F5)) {
+            saveRecording();
+        }
+        // R takes back the last shot, as if the bird had never left the sling
+        if (Gdx.input.isKeyJustPressed(Input.Keys.R)) {
+            screens.rewindShot();
+        }
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F6)) {
+            saveLevel();
+        }
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F9)) {
+            loadLevel();
+        }
+    }
+
+    // F6 saves the level being played, F9 goes back to it from any screen
+    private void saveLevel() {
+        LevelSave save = screens.saveLevel();
+        if (save == null) return;
+        FileHandle file = Gdx.files.local(SAVE_FILE);
+        try {
+            file.parent().mkdirs();
+            save.write(file.file().toPath());
+            Gdx.app.log("Main", "Saved level " + save.getLevel() + " at tick " + save.getTick() + " to " + file.file().getAbsolutePath());
+        } catch (IOException e) {
+            Gdx.app.error("Main", "Could not save the level to " + file.path(), e);
+        }
+    }
+
+    private void loadLevel() {
+        FileHandle file = Gdx.files.local(SAVE_FILE);
+        if (!file.exists()) return;
+        try {
+            screens.showSavedLevel(LevelSave.read(file.file().toPath()));
+        } catch (IOException e) {
+            Gdx.app.error("Main", "Could not load the level from " + file.path(), e);
+        }
+    }
+
+    // F5 saves the input of the current or last level for replaying with --replay
+    private void saveRecording() {
+        InputRecording recording = screens.getRecording();
+        if (recording == null) return;
+        FileHandle file = Gdx.files.local("replays/level" + recording.getLevel() + "-" + Long.toHexString(recording.getSeed()) + ".rec");
+        try (OutputStream out = file.write(false)) {
+            recording.write(out);
+            Gdx.app.log("Main", "Saved replay to " + file.file().getAbsolutePath());
+        } catch (IOException e) {
+            Gdx.app.error("Main", "Could not save replay to " + file.path(), e);
+        }
+    }
+
+    // Seconds the current screen advances this frame
+    protected float getFrameDelta() {
+        return Gdx.graphics.getDeltaTime();
     }
 
     public void dispose() {
         this.batch.dispose();
         this.backgroundMusic.dispose();
         this.buttonClickSound.dispose();
+        this.screens.dispose();
+        this.textures.dispose();
+        this.debugOverlay.dispose();
     }
 }
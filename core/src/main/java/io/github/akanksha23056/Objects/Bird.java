@@ -4,18 +4,20 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.physics.box2d.*;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
+import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.scenes.scene2d.utils.DragListener;
+import io.github.akanksha23056.Debug.GpuResourceTracker;
 
-import java.io.Serializable;
-
-public class Bird extends Image implements Serializable {
-    private static final long serialVersionUID = 1L;
-    private transient final World world;
-    private transient final Body body;
+public class Bird extends Image {
+    private final World world;
+    private final Body body;
+    private final Texture texture;
     private boolean isDragging;
 
     public Bird(World world, String texturePath, float x, float y, float scaleFactor) {
         super(new Texture(texturePath));
+        this.texture = ((TextureRegionDrawable) getDrawable()).getRegion().getTexture();
+        GpuResourceTracker.ownedTextureCreated(this, texture);
         this.world = world;
         this.setPosition(x, y);
         this.setSize(getWidth() * scaleFactor, getHeight() * scaleFactor);
@@ -72,10 +74,7 @@ public class Bird extends Image implements Serializable {
     }
 
     public void dispose() {
-        getTexture().dispose();
-    }
-
-    private Texture getTexture() {
-        return (Texture) getDrawable();
+        GpuResourceTracker.ownedTextureDisposed(this, texture);
+        texture.dispose();
     }
 }
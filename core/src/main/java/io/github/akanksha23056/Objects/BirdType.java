@@ -1,7 +1,5 @@
 package io.github.akanksha23056.Objects;
 
-import java.io.Serializable;
-
-public enum BirdType implements Serializable {
+public enum BirdType {
     RED, YELLOW, BLACK
 }
@@ -1,17 +1,20 @@
 package io.github.akanksha23056.Objects;
 
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
+import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.physics.box2d.*;
+import io.github.akanksha23056.Debug.GpuResourceTracker;
 
-import java.io.Serializable;
-
-public class Block extends Image implements Serializable {
-    private static final long serialVersionUID = 1L;
-    private transient Body body;
+public class Block extends Image {
+    private Body body;
+    private final Texture texture;
 
     public Block(World world, String texturePath, float x, float y, float scaleFactor) {
         super(new Texture(texturePath));
+        this.texture = ((TextureRegionDrawable) getDrawable()).getRegion().getTexture();
+        GpuResourceTracker.ownedTextureCreated(this, texture);
         setSize(getWidth() * scaleFactor, getHeight() * scaleFactor);
         setPosition(x, y);
 
@@ -39,15 +42,16 @@ public class Block extends Image implements Serializable {
     @Override
     public void act(float delta) {
         super.act(delta);
-        // Synchronize position with Box2D body
-        setPosition(body.getPosition().x * 100 - getWidth() / 2, body.getPosition().y * 100 - getHeight() / 2);
+        // Synchronize position and rotation with the Box2D body; a sleeping body has not moved
+        if (body.isAwake()) {
+            setOrigin(getWidth() / 2, getHeight() / 2);
+            setPosition(body.getPosition().x * 100 - getWidth() / 2, body.getPosition().y * 100 - getHeight() / 2);
+            setRotation(body.getAngle() * MathUtils.radiansToDegrees);
+        }
     }
 
     public void dispose() {
-        getTexture().dispose();
-    }
-
-    private Texture getTexture() {
-        return (Texture) getDrawable();
+        GpuResourceTracker.ownedTextureDisposed(this, texture);
+        texture.dispose();
     }
 }
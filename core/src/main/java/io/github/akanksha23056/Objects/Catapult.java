@@ -3,15 +3,14 @@ package io.github.akanksha23056.Objects;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.scenes.scene2d.Actor;
+import io.github.akanksha23056.Debug.GpuResourceTracker;
 
-import java.io.Serializable;
-
-public class Catapult extends Actor implements Serializable {
-    private static final long serialVersionUID = 1L;
-    private transient final Texture texture;
+public class Catapult extends Actor {
+    private final Texture texture;
 
     public Catapult(String texturePath, float x, float y) {
         this.texture = new Texture(texturePath);
+        GpuResourceTracker.ownedTextureCreated(this, texture);
         setBounds(x, y, 170, 170); // Adjust size as needed
     }
 
@@ -21,6 +20,7 @@ public class Catapult extends Actor implements Serializable {
     }
 
     public void dispose() {
+        GpuResourceTracker.ownedTextureDisposed(this, texture);
         texture.dispose();
     }
 }
@@ -1,8 +1,5 @@
 package io.github.akanksha23056.Objects;
 
-import java.io.Serializable;
-
-public class Glass implements Serializable {
-    private static final long serialVersionUID = 1L;
+public class Glass {
     // Add Glass properties and methods here
 }
@@ -2,19 +2,21 @@ package io.github.akanksha23056.Objects;
 
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.physics.box2d.*;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import io.github.akanksha23056.Debug.GpuResourceTracker;
 
-import java.io.Serializable;
-
-public class Pig extends Image implements Serializable {
-    private static final long serialVersionUID = 1L;
-    private transient final World world;
-    private transient final Body body;
+public class Pig extends Image {
+    private final World world;
+    private final Body body;
+    private final Texture texture;
 
     public Pig(World world, String texturePath, float x, float y, float scaleFactor) {
         super(new Texture(texturePath));
+        this.texture = ((TextureRegionDrawable) getDrawable()).getRegion().getTexture();
+        GpuResourceTracker.ownedTextureCreated(this, texture);
         this.world = world;
         this.setPosition(x, y);
         this.setSize(getWidth() * scaleFactor, getHeight() * scaleFactor);
@@ -46,15 +48,17 @@ public class Pig extends Image implements Serializable {
 
     @Override
     public void act(float delta) {
-        setPosition(body.getPosition().x * 100 - getWidth() / 2, body.getPosition().y * 100 - getHeight() / 2);
+        // A sleeping body has not moved since the last sync
+        if (body.isAwake()) {
+            setOrigin(getWidth() / 2, getHeight() / 2);
+            setPosition(body.getPosition().x * 100 - getWidth() / 2, body.getPosition().y * 100 - getHeight() / 2);
+            setRotation(body.getAngle() * MathUtils.radiansToDegrees);
+        }
         super.act(delta);
     }
 
     public void dispose() {
-        getTexture().dispose();
-    }
-
-    private Texture getTexture() {
-        return (Texture) getDrawable();
+        GpuResourceTracker.ownedTextureDisposed(this, texture);
+        texture.dispose();
     }
 }
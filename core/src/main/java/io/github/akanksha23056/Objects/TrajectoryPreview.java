@@ -0,0 +1,78 @@
+package io.github.akanksha23056.Objects;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+// Dotted preview of where the bird will fly, shown while the sling is pulled.
+// The level moves the bird with v = (v + gravity) * damping; position += v each tick, so the
+// position after n ticks has a closed form and each dot costs one pow() instead of stepping the
+// flight forward every frame. Dots live in fixed arrays and are only recomputed when the pull
+// point or the launch speed changes.
+public class TrajectoryPreview {
+    public static final int MAX_DOTS = 24;
+    private static final int TICKS_PER_DOT = 4;
+    private static final float DOT_SIZE = 12f; // Pixels, the last dot is half as big
+
+    private final float gravity; // Pixels per tick squared, negative is down
+    private final float damping;
+    private final float groundY;
+
+    private final float[] dotX = new float[MAX_DOTS];
+    private final float[] dotY = new float[MAX_DOTS];
+    private int dotCount = 0;
+
+    // Inputs of the last recompute
+    private float aimedX = Float.NaN;
+    private float aimedY = Float.NaN;
+    private float aimedScale = Float.NaN;
+
+    public TrajectoryPreview(float gravity, float damping, float groundY) {
+        this.gravity = gravity;
+        this.damping = damping;
+        this.groundY = groundY;
+    }
+
+    // The bird is pulled to (birdX, birdY); on release it launches with
+    // (sling - bird) * launchScale pixels per tick, so that is what the dots follow
+    public void aim(float slingX, float slingY, float birdX, float birdY, float launchScale) {
+        if (birdX == aimedX && birdY == aimedY && launchScale == aimedScale) return;
+        aimedX = birdX;
+        aimedY = birdY;
+        aimedScale = launchScale;
+
+        float velocityX = (slingX - birdX) * launchScale;
+        float velocityY = (slingY - birdY) * launchScale;
+        dotCount = 0;
+        for (int i = 1; i <= MAX_DOTS; i++) {
+            int ticks = i * TICKS_PER_DOT;
+            float x = birdX + velocityX * travel(ticks);
+            float y = birdY + velocityY * travel(ticks) + gravity * fall(ticks);
+            if (y < groundY) break; // The bird stops on the ground
+            dotX[dotCount] = x;
+            dotY[dotCount] = y;
+            dotCount++;
+        }
+    }
+
+    public void hide() {
+        dotCount = 0;
+        aimedX = Float.NaN;
+    }
+
+    public void draw(SpriteBatch batch, TextureRegion dot) {
+        for (int i = 0; i < dotCount; i++) {
+            float size = DOT_SIZE * (1 - 0.5f * i / MAX_DOTS);
+            batch.draw(dot, dotX[i] - size / 2, dotY[i] - size / 2, size, size);
+        }
+    }
+
+    // Sum of damping^k for k = 1..n: how far the launch velocity carries the bird in n ticks
+    private float travel(int ticks) {
+        return damping * (1 - (float) Math.pow(damping, ticks)) / (1 - damping);
+    }
+
+    // How far one pixel per tick squared of gravity pulls the bird in n ticks
+    private float fall(int ticks) {
+        return damping / (1 - damping) * (ticks - travel(ticks));
+    }
+}
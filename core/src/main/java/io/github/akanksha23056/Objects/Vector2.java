@@ -1,9 +1,6 @@
 package io.github.akanksha23056.Objects;
 
-import java.io.Serializable;
-
-public class Vector2 implements Serializable {
-    private static final long serialVersionUID = 1L;
+public class Vector2 {
     public float x;
     public float y;
 
@@ -0,0 +1,151 @@
+package io.github.akanksha23056.Physics;
+
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+
+// Event-driven damage fed by the level's Box2D contacts.
+// Box2D reports the impulse of every solved contact; only impulses above the material's resistance
+// are queued, so resting structures produce no work. Projectiles (the birds) are not Box2D bodies;
+// sweepProjectile() finds what their path runs into with a swept circle, so fast shots cannot
+// pass through a target between two ticks. Contacts arrive from PhysicsWorld after the step;
+// damage is still queued and handed to the screen by flush(), so screens see hits before damage.
+// Targets are EntityStore ids, which the store puts in each body's user data.
+// Being the level's contact handler, it also tells the store which sleeping entities Box2D woke:
+// a new contact wakes both bodies, and a solved contact means its island is awake.
+public class DamageSystem implements PhysicsWorld.ContactHandler {
+    // Mass the bird hits with; birds are not Box2D bodies, so their impulse is computed here
+    public static final float PROJECTILE_MASS = 0.4f;
+
+    public interface Listener {
+        // The projectile started touching this entity with its centre at (x, y)
+        void onHit(int id, float x, float y);
+
+        // The entity's health just reached zero
+        void onDestroyed(int id);
+    }
+
+    private final EntityStore entities;
+    private final Listener listener;
+    private final IntArray damagedIds = new IntArray();
+    private final FloatArray damageImpulses = new FloatArray();
+    // Projectile hits of the current tick, ordered along the path
+    private final IntArray hitIds = new IntArray();
+    private final FloatArray hitTimes = new FloatArray();
+    private final FloatArray hitXs = new FloatArray();
+    private final FloatArray hitYs = new FloatArray();
+    private final IntArray candidates = new IntArray();
+
+    public DamageSystem(PhysicsWorld physics, EntityStore entities, Listener listener) {
+        this.entities = entities;
+        this.listener = listener;
+        physics.setContactHandler(this);
+    }
+
+    // Damages an entity directly, e.g. from a projectile hit or a blast
+    public void applyImpulse(int id, float impulse) {
+        int index = entities.indexOf(id);
+        if (index < 0 || entities.health[index] <= 0) return;
+        float damage = impulse - entities.materials[index].resistance;
+        if (damage <= 0) return;
+
+        entities.health[index] -= damage;
+        if (entities.health[index] <= 0) {
+            listener.onDestroyed(id);
+        }
+    }
+
+    // Damage from a projectile moving at the given velocity, in pixels per tick
+    public void applyProjectileImpact(int id, float velocityX, float velocityY) {
+        float speed = (float) Math.sqrt(velocityX * velocityX + velocityY * velocityY);
+        applyImpulse(id, PROJECTILE_MASS * speed / FixedTimestep.STEP / PhysicsWorld.PIXELS_PER_METER);
+    }
+
+    // Queues a hit for every entity a projectile of the given radius runs into while moving from
+    // (fromX, fromY) to (toX, toY) this tick; entities it was already touching are not hit again.
+    // Candidates come from the grid when the level has one, otherwise every entity is tested.
+    public void sweepProjectile(SpatialGrid grid, float fromX, float fromY, float toX, float toY, float radius) {
+        if (fromX == toX && fromY == toY) return;
+        if (grid != null) {
+            candidates.clear();
+            grid.query(Math.min(fromX, toX) - radius, Math.min(fromY, toY) - radius,
+                Math.max(fromX, toX) + radius, Math.max(fromY, toY) + radius, candidates);
+            for (int i = 0; i < candidates.size; i++) {
+                int index = entities.indexOf(candidates.get(i));
+                if (index >= 0) {
+                    sweep(index, fromX, fromY, toX, toY, radius);
+                }
+            }
+        } else {
+            for (int index = 0; index < entities.size; index++) {
+                sweep(index, fromX, fromY, toX, toY, radius);
+            }
+        }
+    }
+
+    private void sweep(int index, float fromX, float fromY, float toX, float toY, float radius) {
+        float time = SweptCircle.timeOfImpact(fromX, fromY, toX, toY, radius,
+            entities.x[index], entities.y[index], entities.width[index], entities.height[index], entities.rotation[index]);
+        if (time <= 0) return; // Missed, or touching since an earlier tick
+
+        // Keep the hits sorted by time, there are only ever a handful
+        int at = hitTimes.size;
+        while (at > 0 && hitTimes.get(at - 1) > time) {
+            at--;
+        }
+        hitIds.insert(at, entities.idAt(index));
+        hitTimes.insert(at, time);
+        hitXs.insert(at, fromX + (toX - fromX) * time);
+        hitYs.insert(at, fromY + (toY - fromY) * time);
+    }
+
+    // Delivers everything queued during the last step, call after PhysicsWorld.step()
+    public void flush() {
+        // Listeners may remove entities, so skip anything that is already gone or dead
+        for (int i = 0; i < hitIds.size; i++) {
+            int id = hitIds.get(i);
+            int index = entities.indexOf(id);
+            if (index < 0 || entities.health[index] <= 0) continue;
+            listener.onHit(id, hitXs.get(i), hitYs.get(i));
+        }
+        hitIds.clear();
+        hitTimes.clear();
+        hitXs.clear();
+        hitYs.clear();
+
+        for (int i = 0; i < damagedIds.size; i++) {
+            applyImpulse(damagedIds.get(i), damageImpulses.get(i));
+        }
+        damagedIds.clear();
+        damageImpulses.clear();
+    }
+
+    @Override
+    public void beginContact(Object userDataA, Object userDataB) {
+        wake(userDataA);
+        wake(userDataB);
+    }
+
+    @Override
+    public void postSolve(Object userDataA, Object userDataB, float impulse) {
+        wake(userDataA);
+        wake(userDataB);
+        queueDamage(userDataA, impulse);
+        queueDamage(userDataB, impulse);
+    }
+
+    private void wake(Object userData) {
+        if (userData instanceof Integer) {
+            entities.wake((Integer) userData);
+        }
+    }
+
+    private void queueDamage(Object userData, float impulse) {
+        if (!(userData instanceof Integer)) return;
+        int id = (Integer) userData;
+        int index = entities.indexOf(id);
+        if (index >= 0 && entities.health[index] > 0 && impulse > entities.materials[index].resistance) {
+            damagedIds.add(id);
+            damageImpulses.add(impulse);
+        }
+    }
+}
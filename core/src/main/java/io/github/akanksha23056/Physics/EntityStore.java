@@ -0,0 +1,431 @@
+package io.github.akanksha23056.Physics;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.QueryCallback;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+// Every crate, glass slab, TNT block and pig of a level, stored as parallel primitive arrays.
+// Entities are addressed two ways:
+// - id: handed out by create() and never reused within a level, safe to keep (grid, Box2D user data)
+// - index: the entity's slot in the arrays, 0..size-1; loops run over indices so they walk
+//   contiguous memory. Entities are swapped around on remove, sleep and wake, so indices are
+//   only valid until the next such change.
+// Positions are the bottom-left corner in pixels, rotation is in degrees about the centre.
+// The arrays are split into awake entities, 0..awakeCount-1, and sleeping ones after them. Box2D
+// decides when a settled island sleeps; the store follows it so per-tick loops only touch awake
+// entities, and wake() brings an entity back on contact, explosion or loss of support.
+public class EntityStore implements PhysicsWorld.BodyListener {
+    // Flags
+    public static final int HURT = 1;
+    public static final int MAGIC = 1 << 1;    // Magic pig that teleports when first hit
+    public static final int ZOMBIE = 1 << 2;   // Zombie pig, does not count towards the win
+    public static final int EXPLODED = 1 << 3; // TNT that has gone off
+
+    // How far around a removed entity others count as resting on it, in pixels
+    public static final float SUPPORT_MARGIN = 2f;
+
+    // Snapshot layout: counts, then one section per array, then a fixed-size record per body
+    private static final int HEADER_BYTES = 3 * 4;
+    private static final int BODY_BYTES = 1 + 6 * 4; // State, then position, angle and velocities
+    private static final int ENTITY_BYTES = 4 + 1 + 4 + 9 * 4 + BODY_BYTES;
+    private static final byte NO_BODY = 0;
+    private static final byte SLEEPING_BODY = 1;
+    private static final byte AWAKE_BODY = 2;
+    private static final Material[] MATERIALS = Material.values();
+
+    public int size = 0;
+    public int awakeCount = 0;
+
+    public float[] x, y, width, height, rotation;
+    public float[] previousX, previousY, previousRotation; // Transform at the previous tick, for interpolated drawing
+    public float[] health;
+    public int[] flags;
+    public Material[] materials;
+    public Body[] bodies;
+
+    private int[] ids;            // index -> id
+    private int[] indices = new int[0]; // id -> index, -1 once removed
+    private int nextId = 0;
+
+    // Reused for the loss-of-support query in destroy()
+    private final QueryCallback wakeCallback = new QueryCallback() {
+        @Override
+        public boolean reportFixture(Fixture fixture) {
+            Object userData = fixture.getBody().getUserData();
+            if (userData instanceof Integer) {
+                wake((Integer) userData);
+            }
+            return true;
+        }
+    };
+
+    public EntityStore() {
+        this(64);
+    }
+
+    public EntityStore(int capacity) {
+        allocate(capacity);
+    }
+
+    // Adds an entity and returns its id; the body (if any) is attached with setBody()
+    public int create(Material material, float x, float y, float width, float height) {
+        if (size == this.x.length) {
+            grow(Math.max(8, size * 2));
+        }
+        int id = nextId++;
+        if (id >= indices.length) {
+            int[] newIndices = new int[Math.max(id + 1, indices.length * 2)];
+            System.arraycopy(indices, 0, newIndices, 0, indices.length);
+            indices = newIndices;
+        }
+
+        int index = size++;
+        ids[index] = id;
+        indices[id] = index;
+        this.x[index] = previousX[index] = x;
+        this.y[index] = previousY[index] = y;
+        this.width[index] = width;
+        this.height[index] = height;
+        rotation[index] = previousRotation[index] = 0;
+        health[index] = material.health;
+        flags[index] = 0;
+        materials[index] = material;
+        bodies[index] = null;
+
+        // New entities start awake
+        swap(index, awakeCount++);
+        return id;
+    }
+
+    // Adds an entity backed by a dynamic Box2D box of the same size
+    public int createBox(PhysicsWorld physics, Material material, float x, float y, float width, float height) {
+        int id = create(material, x, y, width, height);
+        setBody(id, physics.createBox(x, y, width, height, material, null));
+        return id;
+    }
+
+    public void setBody(int id, Body body) {
+        bodies[indices[id]] = body;
+        body.setUserData(id);
+    }
+
+    // O(1): the entity is swapped to the end of its partition, then to the end of the arrays
+    public void remove(int id) {
+        int index = indexOf(id);
+        if (index < 0) return;
+        if (index < awakeCount) {
+            swap(index, --awakeCount);
+            index = awakeCount;
+        }
+        int last = --size;
+        swap(index, last);
+        materials[last] = null;
+        bodies[last] = null;
+        indices[id] = -1;
+    }
+
+    // Removes an entity together with its body.
+    // Box2D does not wake bodies when their support is destroyed, so everything touching the
+    // entity is woken here; otherwise a sleeping stack would hang in the air.
+    public void destroy(int id, PhysicsWorld physics) {
+        int index = indexOf(id);
+        if (index < 0) return;
+        Body body = bodies[index];
+        float reach = (width[index] + height[index]) / 2 + SUPPORT_MARGIN;
+        float centerX = centerX(index), centerY = centerY(index);
+        remove(id);
+        if (body != null) {
+            physics.destroyBody(body);
+            physics.queryAABB(wakeCallback, centerX - reach, centerY - reach, centerX + reach, centerY + reach);
+        }
+    }
+
+    // An island merge moved the body into another Box2D world
+    @Override
+    public void onBodyReplaced(Body oldBody, Body newBody) {
+        int index = indexOf((Integer) newBody.getUserData());
+        if (index >= 0) {
+            bodies[index] = newBody;
+        }
+    }
+
+    // Moves a sleeping entity back into the awake range and wakes its body
+    public void wake(int id) {
+        int index = indexOf(id);
+        if (index < awakeCount) return; // Removed or already awake
+        if (bodies[index] != null) {
+            bodies[index].setAwake(true);
+        }
+        swap(index, awakeCount++);
+    }
+
+    public boolean isAwake(int index) {
+        return index < awakeCount;
+    }
+
+    public int indexOf(int id) {
+        return id >= 0 && id < nextId ? indices[id] : -1;
+    }
+
+    public boolean contains(int id) {
+        return indexOf(id) >= 0;
+    }
+
+    public int idAt(int index) {
+        return ids[index];
+    }
+
+    public boolean hasFlag(int index, int flag) {
+        return (flags[index] & flag) != 0;
+    }
+
+    public void setFlag(int index, int flag, boolean value) {
+        flags[index] = value ? flags[index] | flag : flags[index] & ~flag;
+    }
+
+    public float centerX(int index) {
+        return x[index] + width[index] / 2;
+    }
+
+    public float centerY(int index) {
+        return y[index] + height[index] / 2;
+    }
+
+    // Called at the start of every tick, before anything moves; sleeping entities keep
+    // previous == current from the tick they fell asleep
+    public void savePrevious() {
+        System.arraycopy(x, 0, previousX, 0, awakeCount);
+        System.arraycopy(y, 0, previousY, 0, awakeCount);
+        System.arraycopy(rotation, 0, previousRotation, 0, awakeCount);
+    }
+
+    // Moves an entity without interpolating from its old position (spawns, teleports)
+    public void place(int index, float x, float y) {
+        this.x[index] = previousX[index] = x;
+        this.y[index] = previousY[index] = y;
+        rotation[index] = previousRotation[index] = 0;
+    }
+
+    // Copies the transform of every awake body into the arrays and re-indexes it in the grid
+    // and in its physics island. Entities whose body Box2D put to sleep during the step move to
+    // the sleeping range, so the cost of this loop follows the number of moving entities, not the level size.
+    public void syncBodies(PhysicsWorld physics, SpatialGrid grid) {
+        int i = 0;
+        while (i < awakeCount) {
+            Body body = bodies[i];
+            if (body == null) {
+                i++;
+                continue;
+            }
+            Vector2 center = body.getPosition();
+            x[i] = PhysicsWorld.toPixels(center.x) - width[i] / 2;
+            y[i] = PhysicsWorld.toPixels(center.y) - height[i] / 2;
+            rotation[i] = body.getAngle() * MathUtils.radiansToDegrees;
+            if (grid != null) {
+                grid.update(ids[i], x[i], y[i], width[i], height[i], rotation[i]);
+            }
+            float reach = (float) Math.sqrt(width[i] * width[i] + height[i] * height[i]) / 2;
+            float centerX = PhysicsWorld.toPixels(center.x);
+            float centerY = PhysicsWorld.toPixels(center.y);
+            physics.updateBounds(body, centerX - reach, centerY - reach, centerX + reach, centerY + reach);
+            if (body.isAwake()) {
+                i++;
+            } else {
+                // Settled: draw it at rest and leave it alone until something wakes it
+                previousX[i] = x[i];
+                previousY[i] = y[i];
+                previousRotation[i] = rotation[i];
+                swap(i, --awakeCount); // Re-examines slot i, which now holds another awake entity
+            }
+        }
+    }
+
+    // Bytes write() takes for the current entities
+    public int snapshotSize() {
+        return HEADER_BYTES + size * ENTITY_BYTES;
+    }
+
+    // Saves every entity, in slot order, and the exact state of its body
+    public void write(ByteBuffer out) {
+        out.putInt(nextId).putInt(size).putInt(awakeCount);
+        for (int i = 0; i < size; i++) {
+            out.putInt(ids[i]);
+        }
+        for (int i = 0; i < size; i++) {
+            out.put((byte) materials[i].ordinal());
+        }
+        for (int i = 0; i < size; i++) {
+            out.putInt(flags[i]);
+        }
+        putFloats(out, x);
+        putFloats(out, y);
+        putFloats(out, width);
+        putFloats(out, height);
+        putFloats(out, rotation);
+        putFloats(out, previousX);
+        putFloats(out, previousY);
+        putFloats(out, previousRotation);
+        putFloats(out, health);
+        for (int i = 0; i < size; i++) {
+            Body body = bodies[i];
+            if (body == null) {
+                out.put(NO_BODY);
+                for (int j = 0; j < 6; j++) {
+                    out.putFloat(0);
+                }
+                continue;
+            }
+            Vector2 position = body.getPosition();
+            Vector2 velocity = body.getLinearVelocity();
+            out.put(body.isAwake() ? AWAKE_BODY : SLEEPING_BODY);
+            out.putFloat(position.x).putFloat(position.y).putFloat(body.getAngle());
+            out.putFloat(velocity.x).putFloat(velocity.y).putFloat(body.getAngularVelocity());
+        }
+    }
+
+    // Replaces every entity with the ones write() saved, ids and slots included. The bodies are
+    // created again in id order, the order the level first created them, so restoring the first
+    // tick gives the same Box2D world as building the level. The old bodies must already be gone
+    // (PhysicsWorld.clear()).
+    public void read(ByteBuffer in, PhysicsWorld physics) {
+        clear();
+        nextId = in.getInt();
+        int count = in.getInt();
+        if (count > x.length) {
+            grow(Math.max(count, x.length * 2));
+        }
+        if (nextId > indices.length) {
+            indices = new int[Math.max(nextId, indices.length * 2)];
+        }
+        Arrays.fill(indices, -1);
+        size = count;
+        awakeCount = in.getInt();
+
+        for (int i = 0; i < size; i++) {
+            ids[i] = in.getInt();
+            indices[ids[i]] = i;
+        }
+        for (int i = 0; i < size; i++) {
+            materials[i] = MATERIALS[in.get()];
+        }
+        for (int i = 0; i < size; i++) {
+            flags[i] = in.getInt();
+        }
+        getFloats(in, x);
+        getFloats(in, y);
+        getFloats(in, width);
+        getFloats(in, height);
+        getFloats(in, rotation);
+        getFloats(in, previousX);
+        getFloats(in, previousY);
+        getFloats(in, previousRotation);
+        getFloats(in, health);
+
+        int bodyStart = in.position();
+        for (int id = 0; id < nextId; id++) {
+            int i = indices[id];
+            if (i < 0) continue;
+            int at = bodyStart + i * BODY_BYTES;
+            byte state = in.get(at);
+            if (state == NO_BODY) {
+                bodies[i] = null;
+                continue;
+            }
+            Body body = physics.createBox(x[i], y[i], width[i], height[i], materials[i], id);
+            body.setTransform(in.getFloat(at + 1), in.getFloat(at + 5), in.getFloat(at + 9));
+            body.setLinearVelocity(in.getFloat(at + 13), in.getFloat(at + 17));
+            body.setAngularVelocity(in.getFloat(at + 21));
+            body.setAwake(state == AWAKE_BODY);
+            bodies[i] = body;
+        }
+        in.position(bodyStart + size * BODY_BYTES);
+    }
+
+    private void putFloats(ByteBuffer out, float[] values) {
+        for (int i = 0; i < size; i++) {
+            out.putFloat(values[i]);
+        }
+    }
+
+    private void getFloats(ByteBuffer in, float[] values) {
+        for (int i = 0; i < size; i++) {
+            values[i] = in.getFloat();
+        }
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            indices[ids[i]] = -1;
+            materials[i] = null;
+            bodies[i] = null;
+        }
+        size = 0;
+        awakeCount = 0;
+    }
+
+    private void swap(int a, int b) {
+        if (a == b) return;
+        float f;
+        f = x[a]; x[a] = x[b]; x[b] = f;
+        f = y[a]; y[a] = y[b]; y[b] = f;
+        f = width[a]; width[a] = width[b]; width[b] = f;
+        f = height[a]; height[a] = height[b]; height[b] = f;
+        f = rotation[a]; rotation[a] = rotation[b]; rotation[b] = f;
+        f = previousX[a]; previousX[a] = previousX[b]; previousX[b] = f;
+        f = previousY[a]; previousY[a] = previousY[b]; previousY[b] = f;
+        f = previousRotation[a]; previousRotation[a] = previousRotation[b]; previousRotation[b] = f;
+        f = health[a]; health[a] = health[b]; health[b] = f;
+        int n;
+        n = flags[a]; flags[a] = flags[b]; flags[b] = n;
+        n = ids[a]; ids[a] = ids[b]; ids[b] = n;
+        Material material = materials[a]; materials[a] = materials[b]; materials[b] = material;
+        Body body = bodies[a]; bodies[a] = bodies[b]; bodies[b] = body;
+        indices[ids[a]] = a;
+        indices[ids[b]] = b;
+    }
+
+    private void allocate(int capacity) {
+        x = new float[capacity];
+        y = new float[capacity];
+        width = new float[capacity];
+        height = new float[capacity];
+        rotation = new float[capacity];
+        previousX = new float[capacity];
+        previousY = new float[capacity];
+        previousRotation = new float[capacity];
+        health = new float[capacity];
+        flags = new int[capacity];
+        materials = new Material[capacity];
+        bodies = new Body[capacity];
+        ids = new int[capacity];
+    }
+
+    private void grow(int capacity) {
+        float[] oldX = x, oldY = y, oldWidth = width, oldHeight = height, oldRotation = rotation;
+        float[] oldPreviousX = previousX, oldPreviousY = previousY, oldPreviousRotation = previousRotation;
+        float[] oldHealth = health;
+        int[] oldFlags = flags, oldIds = ids;
+        Material[] oldMaterials = materials;
+        Body[] oldBodies = bodies;
+
+        allocate(capacity);
+        System.arraycopy(oldX, 0, x, 0, size);
+        System.arraycopy(oldY, 0, y, 0, size);
+        System.arraycopy(oldWidth, 0, width, 0, size);
+        System.arraycopy(oldHeight, 0, height, 0, size);
+        System.arraycopy(oldRotation, 0, rotation, 0, size);
+        System.arraycopy(oldPreviousX, 0, previousX, 0, size);
+        System.arraycopy(oldPreviousY, 0, previousY, 0, size);
+        System.arraycopy(oldPreviousRotation, 0, previousRotation, 0, size);
+        System.arraycopy(oldHealth, 0, health, 0, size);
+        System.arraycopy(oldFlags, 0, flags, 0, size);
+        System.arraycopy(oldIds, 0, ids, 0, size);
+        System.arraycopy(oldMaterials, 0, materials, 0, size);
+        System.arraycopy(oldBodies, 0, bodies, 0, size);
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.akanksha23056.Physics;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.nio.ByteBuffer;
+
+// Radial blasts shared by the black bird and TNT.
+// A blast finds its targets with a radius query on the level's grid (or a scan of the store when
+// the level has none). Damage and push both fall off linearly from the centre to the radius:
+// damage goes through the DamageSystem like a contact impulse, and whatever survives is pushed
+// away from the centre. Destroyed entities are removed by the screen's DamageSystem listener.
+// Blasts are queued and run in update(). One set off by another blast (TNT caught in the radius)
+// waits for the next tick, and at most MAX_BLASTS_PER_TICK run per tick, so a chain reaction
+// spreads over several ticks instead of landing on one frame.
+public class ExplosionSystem {
+    public static final int MAX_BLASTS_PER_TICK = 8;
+
+    private final EntityStore entities;
+    private final SpatialGrid grid;
+    private final DamageSystem damage;
+
+    // Pending blasts: centre, radius, and damage and push impulse (N*s) at the centre
+    private final FloatArray blastX = new FloatArray();
+    private final FloatArray blastY = new FloatArray();
+    private final FloatArray blastRadius = new FloatArray();
+    private final FloatArray blastDamage = new FloatArray();
+    private final FloatArray blastImpulse = new FloatArray();
+    private final IntArray targets = new IntArray();
+
+    public ExplosionSystem(EntityStore entities, SpatialGrid grid, DamageSystem damage) {
+        this.entities = entities;
+        this.grid = grid;
+        this.damage = damage;
+    }
+
+    // Queues a blast at a pixel position; it goes off on the next update()
+    public void explode(float x, float y, float radius, float damage, float impulse) {
+        blastX.add(x);
+        blastY.add(y);
+        blastRadius.add(radius);
+        blastDamage.add(damage);
+        blastImpulse.add(impulse);
+    }
+
+    public boolean isPending() {
+        return blastX.size > 0;
+    }
+
+    // Bytes write() takes for the pending blasts
+    public int snapshotSize() {
+        return 4 + blastX.size * 5 * 4;
+    }
+
+    public void write(ByteBuffer out) {
+        out.putInt(blastX.size);
+        for (int i = 0; i < blastX.size; i++) {
+            out.putFloat(blastX.get(i)).putFloat(blastY.get(i)).putFloat(blastRadius.get(i))
+                .putFloat(blastDamage.get(i)).putFloat(blastImpulse.get(i));
+        }
+    }
+
+    // Replaces the pending blasts with the ones write() saved
+    public void read(ByteBuffer in) {
+        blastX.clear();
+        blastY.clear();
+        blastRadius.clear();
+        blastDamage.clear();
+        blastImpulse.clear();
+        int count = in.getInt();
+        for (int i = 0; i < count; i++) {
+            explode(in.getFloat(), in.getFloat(), in.getFloat(), in.getFloat(), in.getFloat());
+        }
+    }
+
+    // Runs the blasts queued before this call, call once per tick after DamageSystem.flush()
+    public void update() {
+        int count = Math.min(blastX.size, MAX_BLASTS_PER_TICK);
+        if (count == 0) return;
+        for (int i = 0; i < count; i++) {
+            blast(blastX.get(i), blastY.get(i), blastRadius.get(i), blastDamage.get(i), blastImpulse.get(i));
+        }
+        blastX.removeRange(0, count - 1);
+        blastY.removeRange(0, count - 1);
+        blastRadius.removeRange(0, count - 1);
+        blastDamage.removeRange(0, count - 1);
+        blastImpulse.removeRange(0, count - 1);
+    }
+
+    private void blast(float x, float y, float radius, float peakDamage, float peakImpulse) {
+        targets.clear();
+        if (grid != null) {
+            grid.queryRadius(x, y, radius, targets);
+        } else {
+            for (int i = 0; i < entities.size; i++) {
+                targets.add(entities.idAt(i));
+            }
+        }
+
+        // Ids stay valid while listeners remove entities, indices do not
+        for (int i = 0; i < targets.size; i++) {
+            int id = targets.get(i);
+            int index = entities.indexOf(id);
+            if (index < 0 || entities.hasFlag(index, EntityStore.EXPLODED)) continue;
+
+            float dx = entities.centerX(index) - x;
+            float dy = entities.centerY(index) - y;
+            float distance = (float) Math.sqrt(dx * dx + dy * dy);
+            if (distance >= radius) continue;
+            float falloff = 1 - distance / radius;
+
+            damage.applyImpulse(id, peakDamage * falloff);
+            index = entities.indexOf(id);
+            if (index < 0) continue; // Destroyed and removed
+
+            // Push survivors straight away from the centre, or up when sitting on it
+            Body body = entities.bodies[index];
+            if (body == null) continue;
+            float directionX = distance > 0 ? dx / distance : 0;
+            float directionY = distance > 0 ? dy / distance : 1;
+            float impulse = peakImpulse * falloff;
+            entities.wake(id);
+            body.applyLinearImpulse(directionX * impulse, directionY * impulse,
+                body.getWorldCenter().x, body.getWorldCenter().y, true);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.akanksha23056.Physics;
+
+// Turns variable frame times into a whole number of fixed simulation ticks.
+// The level physics was tuned as one update per 60 Hz frame, so a tick is 1/60 s and the
+// per-tick constants (gravity, damping, tipping speed) keep their original values.
+// Time left over after the last whole tick becomes the alpha used to draw between the
+// previous and the current tick, so fast displays get smooth motion at the same simulation cost.
+public class FixedTimestep {
+    public static final float STEP = 1 / 60f;
+
+    // After a long stall (window drag, debugger) drop the backlog instead of trying to catch up
+    private static final float MAX_FRAME_TIME = 0.25f;
+
+    private float accumulator = 0f;
+    private long tick = 0;
+
+    // Adds one frame's time and returns how many ticks the caller should run now
+    public int advance(float delta) {
+        accumulator += Math.min(delta, MAX_FRAME_TIME);
+        int steps = 0;
+        while (accumulator >= STEP) {
+            accumulator -= STEP;
+            steps++;
+        }
+        tick += steps;
+        return steps;
+    }
+
+    // How far the current frame is between the last tick (0) and the next one (1)
+    public float getAlpha() {
+        return accumulator / STEP;
+    }
+
+    public float interpolate(float previous, float current) {
+        return previous + (current - previous) * getAlpha();
+    }
+
+    // Number of ticks run since the level started
+    public long getTick() {
+        return tick;
+    }
+
+    public void reset() {
+        accumulator = 0f;
+        tick = 0;
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.akanksha23056.Physics;
+
+// Fixture and damage properties of everything a level is built from.
+// Resistance is the impulse (N*s) a body shrugs off per contact; only the excess counts as damage.
+public enum Material {
+    WOOD(1.0f, 0.6f, 0.1f, 6.0f, 0.8f),    // Crates
+    GLASS(1.5f, 0.3f, 0.05f, 1.0f, 0.15f), // Glass slabs
+    PIG(0.8f, 0.5f, 0.2f, 1.0f, 0.3f),
+    TNT(1.0f, 0.6f, 0.1f, 0.5f, 0.2f);
+
+    public final float density;
+    public final float friction;
+    public final float restitution;
+    public final float health;
+    public final float resistance;
+
+    Material(float density, float friction, float restitution, float health, float resistance) {
+        this.density = density;
+        this.friction = friction;
+        this.restitution = restitution;
+        this.health = health;
+        this.resistance = resistance;
+    }
+}
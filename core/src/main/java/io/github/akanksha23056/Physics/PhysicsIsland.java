@@ -0,0 +1,201 @@
+package io.github.akanksha23056.Physics;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.physics.box2d.ContactImpulse;
+import com.badlogic.gdx.physics.box2d.ContactListener;
+import com.badlogic.gdx.physics.box2d.EdgeShape;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.Manifold;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+import java.util.concurrent.RecursiveAction;
+
+// A group of bodies that cannot touch any other group, with its own Box2D world and ground.
+// Islands are stepped as fork-join tasks when PhysicsWorld has a pool. Contact callbacks run on
+// whichever thread steps the island, so they are only recorded here and replayed on the calling thread.
+final class PhysicsIsland extends RecursiveAction implements ContactListener {
+    private static final long serialVersionUID = 1L; // Fork-join tasks are Serializable; islands are never serialized
+
+    // Creation order; merges and event replay follow it so results never depend on threads
+    final int sequence;
+    final World world;
+    private final int velocityIterations;
+    private final int positionIterations;
+
+    // Bodies with their last known pixel bounds, and the union of those bounds
+    final Array<Body> bodies = new Array<>(false, 16);
+    private final ObjectIntMap<Body> slots = new ObjectIntMap<>();
+    private final FloatArray bodyMinX = new FloatArray(false, 16);
+    private final FloatArray bodyMinY = new FloatArray(false, 16);
+    private final FloatArray bodyMaxX = new FloatArray(false, 16);
+    private final FloatArray bodyMaxY = new FloatArray(false, 16);
+    float minX, minY, maxX, maxY;
+    private boolean boundsDirty = false;
+
+    // Contact events of the last step
+    private final Array<Object> beginA = new Array<>();
+    private final Array<Object> beginB = new Array<>();
+    private final Array<Object> solveA = new Array<>();
+    private final Array<Object> solveB = new Array<>();
+    private final FloatArray solveImpulses = new FloatArray();
+
+    PhysicsIsland(int sequence, float groundY, int velocityIterations, int positionIterations, boolean allowSleep) {
+        this.sequence = sequence;
+        this.world = new World(new Vector2(0, PhysicsWorld.GRAVITY), allowSleep);
+        this.velocityIterations = velocityIterations;
+        this.positionIterations = positionIterations;
+        world.setContactListener(this);
+
+        // The ground is one static edge, PhysicsWorld.GROUND_HALF_WIDTH either side of x = 0
+        BodyDef groundDef = new BodyDef();
+        groundDef.type = BodyDef.BodyType.StaticBody;
+        Body ground = world.createBody(groundDef);
+        EdgeShape edge = new EdgeShape();
+        float halfWidth = PhysicsWorld.toMeters(PhysicsWorld.GROUND_HALF_WIDTH);
+        edge.set(-halfWidth, PhysicsWorld.toMeters(groundY), halfWidth, PhysicsWorld.toMeters(groundY));
+        FixtureDef fixtureDef = new FixtureDef();
+        fixtureDef.shape = edge;
+        fixtureDef.friction = 0.8f;
+        ground.createFixture(fixtureDef);
+        edge.dispose();
+    }
+
+    @Override
+    protected void compute() {
+        stepWorld();
+    }
+
+    void stepWorld() {
+        world.step(FixedTimestep.STEP, velocityIterations, positionIterations);
+    }
+
+    void add(Body body, float minX, float minY, float maxX, float maxY) {
+        slots.put(body, bodies.size);
+        bodies.add(body);
+        bodyMinX.add(minX);
+        bodyMinY.add(minY);
+        bodyMaxX.add(maxX);
+        bodyMaxY.add(maxY);
+        if (bodies.size == 1) {
+            this.minX = minX;
+            this.minY = minY;
+            this.maxX = maxX;
+            this.maxY = maxY;
+        } else {
+            this.minX = Math.min(this.minX, minX);
+            this.minY = Math.min(this.minY, minY);
+            this.maxX = Math.max(this.maxX, maxX);
+            this.maxY = Math.max(this.maxY, maxY);
+        }
+    }
+
+    void remove(Body body) {
+        int slot = slots.remove(body, -1);
+        if (slot < 0) return;
+        // Unordered arrays move the last body into the freed slot
+        bodies.removeIndex(slot);
+        bodyMinX.removeIndex(slot);
+        bodyMinY.removeIndex(slot);
+        bodyMaxX.removeIndex(slot);
+        bodyMaxY.removeIndex(slot);
+        if (slot < bodies.size) {
+            slots.put(bodies.get(slot), slot);
+        }
+        boundsDirty = true;
+    }
+
+    float getMinX(Body body) {
+        return bodyMinX.get(slots.get(body, -1));
+    }
+
+    float getMinY(Body body) {
+        return bodyMinY.get(slots.get(body, -1));
+    }
+
+    float getMaxX(Body body) {
+        return bodyMaxX.get(slots.get(body, -1));
+    }
+
+    float getMaxY(Body body) {
+        return bodyMaxY.get(slots.get(body, -1));
+    }
+
+    void setBounds(Body body, float minX, float minY, float maxX, float maxY) {
+        int slot = slots.get(body, -1);
+        if (slot < 0) return;
+        bodyMinX.set(slot, minX);
+        bodyMinY.set(slot, minY);
+        bodyMaxX.set(slot, maxX);
+        bodyMaxY.set(slot, maxY);
+        boundsDirty = true;
+    }
+
+    // Recomputes the island's bounds if any body moved since the last call
+    void updateBounds() {
+        if (!boundsDirty || bodies.size == 0) return;
+        boundsDirty = false;
+        minX = bodyMinX.get(0);
+        minY = bodyMinY.get(0);
+        maxX = bodyMaxX.get(0);
+        maxY = bodyMaxY.get(0);
+        for (int i = 1; i < bodies.size; i++) {
+            minX = Math.min(minX, bodyMinX.get(i));
+            minY = Math.min(minY, bodyMinY.get(i));
+            maxX = Math.max(maxX, bodyMaxX.get(i));
+            maxY = Math.max(maxY, bodyMaxY.get(i));
+        }
+    }
+
+    boolean overlaps(float minX, float minY, float maxX, float maxY, float margin) {
+        return bodies.size > 0
+            && minX <= this.maxX + margin && this.minX <= maxX + margin
+            && minY <= this.maxY + margin && this.minY <= maxY + margin;
+    }
+
+    // Hands the recorded events to the handler in the order Box2D reported them
+    void replay(PhysicsWorld.ContactHandler handler) {
+        if (handler != null) {
+            for (int i = 0; i < beginA.size; i++) {
+                handler.beginContact(beginA.get(i), beginB.get(i));
+            }
+            for (int i = 0; i < solveA.size; i++) {
+                handler.postSolve(solveA.get(i), solveB.get(i), solveImpulses.get(i));
+            }
+        }
+        beginA.clear();
+        beginB.clear();
+        solveA.clear();
+        solveB.clear();
+        solveImpulses.clear();
+    }
+
+    @Override
+    public void beginContact(Contact contact) {
+        beginA.add(contact.getFixtureA().getBody().getUserData());
+        beginB.add(contact.getFixtureB().getBody().getUserData());
+    }
+
+    @Override
+    public void postSolve(Contact contact, ContactImpulse impulse) {
+        float[] normalImpulses = impulse.getNormalImpulses();
+        float total = 0;
+        for (int i = 0; i < impulse.getCount(); i++) {
+            total += normalImpulses[i];
+        }
+        solveA.add(contact.getFixtureA().getBody().getUserData());
+        solveB.add(contact.getFixtureB().getBody().getUserData());
+        solveImpulses.add(total);
+    }
+
+    @Override
+    public void endContact(Contact contact) {}
+
+    @Override
+    public void preSolve(Contact contact, Manifold oldManifold) {}
+}
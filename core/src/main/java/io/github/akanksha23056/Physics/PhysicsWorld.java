@@ -0,0 +1,396 @@
+package io.github.akanksha23056.Physics;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.CircleShape;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.QueryCallback;
+import com.badlogic.gdx.physics.box2d.Shape;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Box2D physics owned by a level screen.
+// Screens keep working in pixels; bodies live in metres at the same 100 px per metre scale
+// the Objects package uses. The level is stepped once per FixedTimestep tick, and bodies that
+// come to rest are put to sleep by Box2D so a settled structure costs almost nothing per tick.
+// Bodies are split into islands, groups that cannot reach each other, each with its own Box2D
+// world (see PhysicsIsland); islands that come within ISLAND_MARGIN of each other are merged
+// before their bodies can touch. Islands are stepped one after another on the calling thread,
+// or in parallel on a fork-join pool passed to the constructor. Contact events and merges are
+// handled in island creation order, so a run gives the same result either way and on any number
+// of cores (PhysicsWorldTest checks it).
+public class PhysicsWorld implements Disposable {
+    public static final float PIXELS_PER_METER = 100f;
+
+    // The levels were tuned with -0.05 px of velocity per 60 Hz tick
+    public static final float GRAVITY = -0.05f / FixedTimestep.STEP / FixedTimestep.STEP / PIXELS_PER_METER;
+
+    public static final int DEFAULT_VELOCITY_ITERATIONS = 8;
+    public static final int DEFAULT_POSITION_ITERATIONS = 3;
+
+    // Islands closer than this (in pixels) are merged; it must exceed how far a body moves in one tick
+    public static final float ISLAND_MARGIN = 100f;
+
+    // The ground reaches this far (in pixels) either side of x = 0, wide enough for anything
+    // knocked off screen
+    public static final float GROUND_HALF_WIDTH = 100000f;
+
+    // Receives the contact events of every island after each step, on the thread that called step()
+    public interface ContactHandler {
+        void beginContact(Object userDataA, Object userDataB);
+
+        // Sum of the normal impulses of a solved contact
+        void postSolve(Object userDataA, Object userDataB, float impulse);
+    }
+
+    // Told when a merge recreates a body in another island's world
+    public interface BodyListener {
+        void onBodyReplaced(Body oldBody, Body newBody);
+    }
+
+    private final float groundY;
+    private final int velocityIterations;
+    private final int positionIterations;
+    private final boolean allowSleep;
+    private final ForkJoinPool pool; // Null to step on the calling thread
+
+    private final Array<PhysicsIsland> islands = new Array<>(); // In creation order
+    private final Array<PhysicsIsland> islandsByLeftEdge = new Array<>(true, 16, PhysicsIsland.class);
+    private final ObjectMap<World, PhysicsIsland> islandsByWorld = new ObjectMap<>();
+    private PhysicsIsland[] tasks = new PhysicsIsland[0];
+    private final RecursiveAction stepIslands = new RecursiveAction() {
+        @Override
+        protected void compute() {
+            invokeAll(tasks);
+        }
+    };
+    private int nextSequence = 0;
+
+    // Reused by createBox; Box2D copies them into each body and fixture
+    private final BodyDef boxDef = new BodyDef();
+    private final PolygonShape boxShape = new PolygonShape();
+    private final FixtureDef boxFixtureDef = new FixtureDef();
+
+    private ContactHandler contactHandler;
+    private BodyListener bodyListener;
+
+    public PhysicsWorld(float groundY) {
+        this(groundY, DEFAULT_VELOCITY_ITERATIONS, DEFAULT_POSITION_ITERATIONS, true);
+    }
+
+    public PhysicsWorld(float groundY, int velocityIterations, int positionIterations, boolean allowSleep) {
+        this(groundY, velocityIterations, positionIterations, allowSleep, null);
+    }
+
+    // Steps the islands on the given pool, or on the calling thread when it is null
+    public PhysicsWorld(float groundY, int velocityIterations, int positionIterations, boolean allowSleep, ForkJoinPool pool) {
+        this.groundY = groundY;
+        this.velocityIterations = velocityIterations;
+        this.positionIterations = positionIterations;
+        this.allowSleep = allowSleep;
+        this.pool = pool;
+    }
+
+    public void setContactHandler(ContactHandler contactHandler) {
+        this.contactHandler = contactHandler;
+    }
+
+    public void setBodyListener(BodyListener bodyListener) {
+        this.bodyListener = bodyListener;
+    }
+
+    // Creates a dynamic box from pixel bounds (x and y are the bottom-left corner)
+    public Body createBox(Rectangle bounds, Material material, Object userData) {
+        return createBox(bounds.x, bounds.y, bounds.width, bounds.height, material, userData);
+    }
+
+    public Body createBox(float x, float y, float width, float height, Material material, Object userData) {
+        // The island bounds use the box's circumscribed square, which covers any rotation
+        float reach = (float) Math.sqrt(width * width + height * height) / 2;
+        float centerX = x + width / 2;
+        float centerY = y + height / 2;
+        PhysicsIsland island = islandFor(centerX - reach, centerY - reach, centerX + reach, centerY + reach);
+
+        boxDef.type = BodyDef.BodyType.DynamicBody;
+        boxDef.position.set(toMeters(centerX), toMeters(centerY));
+        Body body = island.world.createBody(boxDef);
+
+        boxShape.setAsBox(toMeters(width / 2), toMeters(height / 2));
+        boxFixtureDef.shape = boxShape;
+        boxFixtureDef.density = material.density;
+        boxFixtureDef.friction = material.friction;
+        boxFixtureDef.restitution = material.restitution;
+        body.createFixture(boxFixtureDef);
+
+        body.setUserData(userData);
+        island.add(body, centerX - reach, centerY - reach, centerX + reach, centerY + reach);
+        return body;
+    }
+
+    public void step() {
+        mergeCloseIslands();
+
+        if (pool == null || islands.size == 1 || pool.getParallelism() == 1) {
+            for (int i = 0; i < islands.size; i++) {
+                islands.get(i).stepWorld();
+            }
+        } else {
+            for (PhysicsIsland task : tasks) {
+                task.reinitialize();
+            }
+            stepIslands.reinitialize();
+            pool.invoke(stepIslands);
+        }
+
+        // Replay in creation order, whichever thread finished first
+        for (int i = 0; i < islands.size; i++) {
+            islands.get(i).replay(contactHandler);
+        }
+    }
+
+    public void destroyBody(Body body) {
+        PhysicsIsland island = islandsByWorld.get(body.getWorld());
+        island.remove(body);
+        island.world.destroyBody(body);
+        if (island.bodies.size == 0) {
+            removeIsland(island);
+        }
+    }
+
+    // Reports where a body is now, in pixels; islands use it to see when they come close
+    public void updateBounds(Body body, float minX, float minY, float maxX, float maxY) {
+        islandsByWorld.get(body.getWorld()).setBounds(body, minX, minY, maxX, maxY);
+    }
+
+    // Box2D AABB query over every island near the pixel area
+    public void queryAABB(QueryCallback callback, float minX, float minY, float maxX, float maxY) {
+        for (int i = 0; i < islands.size; i++) {
+            PhysicsIsland island = islands.get(i);
+            if (island.overlaps(minX, minY, maxX, maxY, 0)) {
+                island.world.QueryAABB(callback, toMeters(minX), toMeters(minY), toMeters(maxX), toMeters(maxY));
+            }
+        }
+    }
+
+    // Nudges a body by a velocity change given in pixels per tick, the unit the screens use
+    public static void push(Body body, float velocityX, float velocityY, float pointX, float pointY) {
+        float scale = body.getMass() / FixedTimestep.STEP / PIXELS_PER_METER;
+        body.applyLinearImpulse(velocityX * scale, velocityY * scale, toMeters(pointX), toMeters(pointY), true);
+    }
+
+    // Places a body's centre at a pixel position
+    public static void setPosition(Body body, float x, float y) {
+        body.setTransform(toMeters(x), toMeters(y), body.getAngle());
+    }
+
+    // Moves a body to new pixel bounds, e.g. after a teleport
+    public static void moveTo(Body body, float x, float y, float width, float height) {
+        body.setTransform(toMeters(x + width / 2), toMeters(y + height / 2), 0);
+        body.setLinearVelocity(0, 0);
+        body.setAngularVelocity(0);
+        body.setAwake(true);
+    }
+
+    // Copies a body's transform into pixel bounds; returns the rotation in degrees
+    public static float copyTransform(Body body, Rectangle bounds) {
+        Vector2 center = body.getPosition();
+        bounds.setPosition(toPixels(center.x) - bounds.width / 2, toPixels(center.y) - bounds.height / 2);
+        return body.getAngle() * MathUtils.radiansToDegrees;
+    }
+
+    public static float toMeters(float pixels) {
+        return pixels / PIXELS_PER_METER;
+    }
+
+    public static float toPixels(float meters) {
+        return meters * PIXELS_PER_METER;
+    }
+
+    public int getBodyCount() {
+        int count = 0;
+        for (int i = 0; i < islands.size; i++) {
+            count += islands.get(i).bodies.size;
+        }
+        return count;
+    }
+
+    public int getIslandCount() {
+        return islands.size;
+    }
+
+    // Finds the island a new body at these bounds belongs to, merging any it bridges
+    private PhysicsIsland islandFor(float minX, float minY, float maxX, float maxY) {
+        PhysicsIsland target = null;
+        for (int i = 0; i < islands.size; i++) {
+            PhysicsIsland island = islands.get(i);
+            island.updateBounds();
+            if (!island.overlaps(minX, minY, maxX, maxY, ISLAND_MARGIN)) continue;
+            if (target == null) {
+                target = island;
+            } else {
+                merge(island, target);
+                i--; // The merged island left the list
+            }
+        }
+        if (target == null) {
+            target = new PhysicsIsland(nextSequence++, groundY, velocityIterations, positionIterations, allowSleep);
+            islands.add(target);
+            islandsByLeftEdge.add(target);
+            islandsByWorld.put(target.world, target);
+            rebuildTasks();
+        }
+        return target;
+    }
+
+    // Sweeps the islands by left edge and merges every pair that came within the margin.
+    // Islands barely move between ticks, so the insertion sort does almost no work.
+    private void mergeCloseIslands() {
+        for (int i = 0; i < islands.size; i++) {
+            islands.get(i).updateBounds();
+        }
+        boolean merged;
+        do {
+            merged = false;
+            PhysicsIsland[] sorted = islandsByLeftEdge.items;
+            for (int i = 1; i < islandsByLeftEdge.size; i++) {
+                PhysicsIsland island = sorted[i];
+                int j = i - 1;
+                while (j >= 0 && sorted[j].minX > island.minX) {
+                    sorted[j + 1] = sorted[j];
+                    j--;
+                }
+                sorted[j + 1] = island;
+            }
+            search:
+            for (int i = 0; i < islandsByLeftEdge.size; i++) {
+                PhysicsIsland a = sorted[i];
+                for (int j = i + 1; j < islandsByLeftEdge.size && sorted[j].minX <= a.maxX + ISLAND_MARGIN; j++) {
+                    PhysicsIsland b = sorted[j];
+                    if (a.overlaps(b.minX, b.minY, b.maxX, b.maxY, ISLAND_MARGIN)) {
+                        // The older island absorbs the younger one
+                        if (a.sequence < b.sequence) {
+                            merge(b, a);
+                        } else {
+                            merge(a, b);
+                        }
+                        merged = true;
+                        break search;
+                    }
+                }
+            }
+        } while (merged);
+    }
+
+    // Recreates every body of one island in another's world, then drops the empty island
+    private void merge(PhysicsIsland from, PhysicsIsland to) {
+        for (int i = from.bodies.size - 1; i >= 0; i--) {
+            moveBody(from.bodies.get(i), from, to);
+        }
+        removeIsland(from);
+        to.updateBounds();
+    }
+
+    private void moveBody(Body body, PhysicsIsland from, PhysicsIsland to) {
+        BodyDef bodyDef = new BodyDef();
+        bodyDef.type = body.getType();
+        bodyDef.position.set(body.getPosition());
+        bodyDef.angle = body.getAngle();
+        bodyDef.linearVelocity.set(body.getLinearVelocity());
+        bodyDef.angularVelocity = body.getAngularVelocity();
+        bodyDef.linearDamping = body.getLinearDamping();
+        bodyDef.angularDamping = body.getAngularDamping();
+        bodyDef.gravityScale = body.getGravityScale();
+        bodyDef.allowSleep = body.isSleepingAllowed();
+        bodyDef.awake = body.isAwake();
+        bodyDef.fixedRotation = body.isFixedRotation();
+        bodyDef.bullet = body.isBullet();
+        Body copy = to.world.createBody(bodyDef);
+
+        Array<Fixture> fixtures = body.getFixtureList();
+        for (int i = 0; i < fixtures.size; i++) {
+            Fixture fixture = fixtures.get(i);
+            Shape shape = copyShape(fixture.getShape());
+            FixtureDef fixtureDef = new FixtureDef();
+            fixtureDef.shape = shape;
+            fixtureDef.density = fixture.getDensity();
+            fixtureDef.friction = fixture.getFriction();
+            fixtureDef.restitution = fixture.getRestitution();
+            fixtureDef.isSensor = fixture.isSensor();
+            fixtureDef.filter.set(fixture.getFilterData());
+            copy.createFixture(fixtureDef);
+            shape.dispose();
+        }
+        copy.setUserData(body.getUserData());
+
+        to.add(copy, from.getMinX(body), from.getMinY(body), from.getMaxX(body), from.getMaxY(body));
+        from.remove(body);
+        from.world.destroyBody(body);
+        if (bodyListener != null) {
+            bodyListener.onBodyReplaced(body, copy);
+        }
+    }
+
+    private static Shape copyShape(Shape shape) {
+        if (shape instanceof PolygonShape) {
+            PolygonShape polygon = (PolygonShape) shape;
+            float[] vertices = new float[polygon.getVertexCount() * 2];
+            Vector2 vertex = new Vector2();
+            for (int i = 0; i < polygon.getVertexCount(); i++) {
+                polygon.getVertex(i, vertex);
+                vertices[i * 2] = vertex.x;
+                vertices[i * 2 + 1] = vertex.y;
+            }
+            PolygonShape copy = new PolygonShape();
+            copy.set(vertices);
+            return copy;
+        }
+        if (shape instanceof CircleShape) {
+            CircleShape circle = (CircleShape) shape;
+            CircleShape copy = new CircleShape();
+            copy.setRadius(circle.getRadius());
+            copy.setPosition(circle.getPosition());
+            return copy;
+        }
+        throw new IllegalStateException("Cannot move a " + shape.getType() + " fixture between islands");
+    }
+
+    private void removeIsland(PhysicsIsland island) {
+        islands.removeValue(island, true);
+        islandsByLeftEdge.removeValue(island, true);
+        islandsByWorld.remove(island.world);
+        island.world.dispose();
+        rebuildTasks();
+    }
+
+    private void rebuildTasks() {
+        tasks = islands.toArray(PhysicsIsland.class);
+    }
+
+    // Destroys every body and island, e.g. before a level is restored from a snapshot.
+    // New islands keep counting up, so they still order after each other the way they were made.
+    public void clear() {
+        for (int i = 0; i < islands.size; i++) {
+            islands.get(i).world.dispose();
+        }
+        islands.clear();
+        islandsByLeftEdge.clear();
+        islandsByWorld.clear();
+        rebuildTasks();
+    }
+
+    @Override
+    public void dispose() {
+        clear();
+        boxShape.dispose();
+    }
+}
@@ -0,0 +1,205 @@
+package io.github.akanksha23056.Physics;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntMap;
+
+// Uniform grid over entity bounds, keyed by integer entity id.
+// Every entity is listed in each cell its bounding box covers. Moving an entity only touches the
+// grid when it crosses into different cells, so sleeping or slowly moving structures cost nothing.
+// Queries visit only the cells under the query area and report each id once.
+// A cell's list is dropped once it is empty and kept for the next cell that needs one, so
+// bodies roaming into new cells do not allocate once the grid has settled.
+public class SpatialGrid {
+    private final float cellSize;
+    private final IntMap<IntArray> cells = new IntMap<>();
+    private final Array<IntArray> freeCells = new Array<>();
+
+    // Cell range currently covered by each id, indexed by id
+    private int[] minCellX = new int[64];
+    private int[] minCellY = new int[64];
+    private int[] maxCellX = new int[64];
+    private int[] maxCellY = new int[64];
+    private boolean[] present = new boolean[64];
+
+    // Marks ids already reported by the current query
+    private int[] queryStamps = new int[64];
+    private int queryStamp = 0;
+
+    private int size = 0;
+
+    public SpatialGrid(float cellSize) {
+        this.cellSize = cellSize;
+    }
+
+    public void insert(int id, float minX, float minY, float maxX, float maxY) {
+        ensureCapacity(id);
+        if (present[id]) {
+            update(id, minX, minY, maxX, maxY);
+            return;
+        }
+        present[id] = true;
+        size++;
+        setRange(id, minX, minY, maxX, maxY);
+        addToCells(id);
+    }
+
+    // Inserts or moves an axis-aligned box given in pixels
+    public void update(int id, Rectangle bounds) {
+        update(id, bounds.x, bounds.y, bounds.x + bounds.width, bounds.y + bounds.height);
+    }
+
+    // Same for a box rotated about its centre, using the bounding box of the rotated corners
+    public void update(int id, Rectangle bounds, float rotationDegrees) {
+        update(id, bounds.x, bounds.y, bounds.width, bounds.height, rotationDegrees);
+    }
+
+    public void update(int id, float x, float y, float width, float height, float rotationDegrees) {
+        float cos = Math.abs(MathUtils.cosDeg(rotationDegrees));
+        float sin = Math.abs(MathUtils.sinDeg(rotationDegrees));
+        float halfWidth = (width * cos + height * sin) / 2;
+        float halfHeight = (width * sin + height * cos) / 2;
+        float centerX = x + width / 2;
+        float centerY = y + height / 2;
+        update(id, centerX - halfWidth, centerY - halfHeight, centerX + halfWidth, centerY + halfHeight);
+    }
+
+    public void update(int id, float minX, float minY, float maxX, float maxY) {
+        if (id >= present.length || !present[id]) {
+            insert(id, minX, minY, maxX, maxY);
+            return;
+        }
+        int newMinX = cell(minX), newMinY = cell(minY), newMaxX = cell(maxX), newMaxY = cell(maxY);
+        if (newMinX == minCellX[id] && newMinY == minCellY[id] && newMaxX == maxCellX[id] && newMaxY == maxCellY[id]) {
+            return; // Still in the same cells
+        }
+        removeFromCells(id);
+        setRange(id, minX, minY, maxX, maxY);
+        addToCells(id);
+    }
+
+    public void remove(int id) {
+        if (id >= present.length || !present[id]) return;
+        removeFromCells(id);
+        present[id] = false;
+        size--;
+    }
+
+    public boolean contains(int id) {
+        return id < present.length && present[id];
+    }
+
+    public void clear() {
+        for (IntMap.Entry<IntArray> entry : cells) {
+            entry.value.clear();
+            freeCells.add(entry.value);
+        }
+        cells.clear();
+        for (int i = 0; i < present.length; i++) {
+            present[i] = false;
+        }
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Adds every id whose cells overlap the box to out (out is not cleared)
+    public void query(float minX, float minY, float maxX, float maxY, IntArray out) {
+        int stamp = nextQueryStamp();
+        int fromX = cell(minX), fromY = cell(minY), toX = cell(maxX), toY = cell(maxY);
+        for (int cx = fromX; cx <= toX; cx++) {
+            for (int cy = fromY; cy <= toY; cy++) {
+                IntArray ids = cells.get(key(cx, cy));
+                if (ids == null) continue;
+                for (int i = 0; i < ids.size; i++) {
+                    int id = ids.items[i];
+                    if (queryStamps[id] != stamp) {
+                        queryStamps[id] = stamp;
+                        out.add(id);
+                    }
+                }
+            }
+        }
+    }
+
+    // Candidates for a circle query; callers still test the exact distance
+    public void queryRadius(float centerX, float centerY, float radius, IntArray out) {
+        query(centerX - radius, centerY - radius, centerX + radius, centerY + radius, out);
+    }
+
+    private int nextQueryStamp() {
+        if (++queryStamp == Integer.MAX_VALUE) {
+            queryStamp = 1;
+            for (int i = 0; i < queryStamps.length; i++) {
+                queryStamps[i] = 0;
+            }
+        }
+        return queryStamp;
+    }
+
+    private void setRange(int id, float minX, float minY, float maxX, float maxY) {
+        minCellX[id] = cell(minX);
+        minCellY[id] = cell(minY);
+        maxCellX[id] = cell(maxX);
+        maxCellY[id] = cell(maxY);
+    }
+
+    private void addToCells(int id) {
+        for (int cx = minCellX[id]; cx <= maxCellX[id]; cx++) {
+            for (int cy = minCellY[id]; cy <= maxCellY[id]; cy++) {
+                int key = key(cx, cy);
+                IntArray ids = cells.get(key);
+                if (ids == null) {
+                    ids = freeCells.size > 0 ? freeCells.pop() : new IntArray(8);
+                    cells.put(key, ids);
+                }
+                ids.add(id);
+            }
+        }
+    }
+
+    private void removeFromCells(int id) {
+        for (int cx = minCellX[id]; cx <= maxCellX[id]; cx++) {
+            for (int cy = minCellY[id]; cy <= maxCellY[id]; cy++) {
+                int key = key(cx, cy);
+                IntArray ids = cells.get(key);
+                if (ids != null && ids.removeValue(id) && ids.size == 0) {
+                    cells.remove(key);
+                    freeCells.add(ids);
+                }
+            }
+        }
+    }
+
+    private int cell(float coordinate) {
+        return MathUtils.floor(coordinate / cellSize);
+    }
+
+    // Packs two signed 16-bit cell coordinates, enough for +-32k cells
+    private static int key(int cellX, int cellY) {
+        return (cellX << 16) ^ (cellY & 0xFFFF);
+    }
+
+    private void ensureCapacity(int id) {
+        if (id < present.length) return;
+        int capacity = Math.max(id + 1, present.length * 2);
+        minCellX = copyOf(minCellX, capacity);
+        minCellY = copyOf(minCellY, capacity);
+        maxCellX = copyOf(maxCellX, capacity);
+        maxCellY = copyOf(maxCellY, capacity);
+        queryStamps = copyOf(queryStamps, capacity);
+        boolean[] newPresent = new boolean[capacity];
+        System.arraycopy(present, 0, newPresent, 0, present.length);
+        present = newPresent;
+    }
+
+    private static int[] copyOf(int[] array, int capacity) {
+        int[] copy = new int[capacity];
+        System.arraycopy(array, 0, copy, 0, array.length);
+        return copy;
+    }
+}
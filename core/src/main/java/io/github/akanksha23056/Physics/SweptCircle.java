@@ -0,0 +1,91 @@
+package io.github.akanksha23056.Physics;
+
+import com.badlogic.gdx.math.MathUtils;
+
+// Continuous collision of a moving circle against a box that may be rotated about its centre.
+// The circle's path is tested against the box grown by the radius (two slabs plus a circle at
+// each corner), so the result is exact however far the circle moves in one tick.
+public final class SweptCircle {
+    public static final float MISS = -1f;
+
+    private SweptCircle() {}
+
+    // Fraction of the move (0..1) at which a circle going from (fromX, fromY) to (toX, toY) first
+    // touches the box, 0 when it already overlaps at the start, or MISS.
+    // The box is given in pixels by its bottom-left corner, size and rotation in degrees.
+    public static float timeOfImpact(float fromX, float fromY, float toX, float toY, float radius,
+                                     float x, float y, float width, float height, float rotationDegrees) {
+        float halfWidth = width / 2;
+        float halfHeight = height / 2;
+
+        // Work in the box's frame, where it is axis-aligned around the origin
+        float cos = MathUtils.cosDeg(rotationDegrees);
+        float sin = MathUtils.sinDeg(rotationDegrees);
+        float centerX = x + halfWidth;
+        float centerY = y + halfHeight;
+        float startX = (fromX - centerX) * cos + (fromY - centerY) * sin;
+        float startY = -(fromX - centerX) * sin + (fromY - centerY) * cos;
+        float endX = (toX - centerX) * cos + (toY - centerY) * sin;
+        float endY = -(toX - centerX) * sin + (toY - centerY) * cos;
+        float dx = endX - startX;
+        float dy = endY - startY;
+
+        // Already touching
+        float outsideX = Math.max(Math.abs(startX) - halfWidth, 0);
+        float outsideY = Math.max(Math.abs(startY) - halfHeight, 0);
+        if (outsideX * outsideX + outsideY * outsideY <= radius * radius) {
+            return 0;
+        }
+
+        float time = MISS;
+        time = earliest(time, slab(startX, startY, dx, dy, halfWidth + radius, halfHeight));
+        time = earliest(time, slab(startX, startY, dx, dy, halfWidth, halfHeight + radius));
+        time = earliest(time, circle(startX - halfWidth, startY - halfHeight, dx, dy, radius));
+        time = earliest(time, circle(startX + halfWidth, startY - halfHeight, dx, dy, radius));
+        time = earliest(time, circle(startX - halfWidth, startY + halfHeight, dx, dy, radius));
+        time = earliest(time, circle(startX + halfWidth, startY + halfHeight, dx, dy, radius));
+        return time;
+    }
+
+    private static float earliest(float a, float b) {
+        if (a == MISS) return b;
+        if (b == MISS) return a;
+        return Math.min(a, b);
+    }
+
+    // Entry time of the segment into the box [-halfWidth, halfWidth] x [-halfHeight, halfHeight]
+    private static float slab(float startX, float startY, float dx, float dy, float halfWidth, float halfHeight) {
+        float enter = 0;
+        float exit = 1;
+
+        if (dx == 0) {
+            if (Math.abs(startX) > halfWidth) return MISS;
+        } else {
+            float t1 = (-halfWidth - startX) / dx;
+            float t2 = (halfWidth - startX) / dx;
+            enter = Math.max(enter, Math.min(t1, t2));
+            exit = Math.min(exit, Math.max(t1, t2));
+        }
+        if (dy == 0) {
+            if (Math.abs(startY) > halfHeight) return MISS;
+        } else {
+            float t1 = (-halfHeight - startY) / dy;
+            float t2 = (halfHeight - startY) / dy;
+            enter = Math.max(enter, Math.min(t1, t2));
+            exit = Math.min(exit, Math.max(t1, t2));
+        }
+        return enter <= exit ? enter : MISS;
+    }
+
+    // Entry time of the segment into a circle; the start is relative to the circle's centre
+    private static float circle(float startX, float startY, float dx, float dy, float radius) {
+        float a = dx * dx + dy * dy;
+        if (a == 0) return MISS;
+        float b = startX * dx + startY * dy;
+        float c = startX * startX + startY * startY - radius * radius;
+        float discriminant = b * b - a * c;
+        if (discriminant < 0) return MISS;
+        float time = (-b - (float) Math.sqrt(discriminant)) / a;
+        return time >= 0 && time <= 1 ? time : MISS;
+    }
+}
@@ -1,42 +1,79 @@
-
 package io.github.akanksha23056.Screen;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.utils.ScreenUtils;
 import io.github.akanksha23056.Main;
 
 public class GameScreen implements Screen {
+    // Menu and level textures loaded in the background while the splash is shown
+    private static final String[] PRELOADED_TEXTURES = {
+        // Menus
+        "homescreen.jpg", "playbutton.png", "settings.png", "settings_hover.png",
+        "levels.jpg", "level1.png", "level2.png", "level3.png", "lock.png",
+        "back.png", "back_hover.png", "special.png", "special_hover.png",
+        // Pause, win and lose screens
+        "pausescreen.jpg", "winscreen.jpg", "losescreen.jpg", "play.png", "play_hover.png",
+        "replay.png", "replay_hover.png", "menu.png", "menu_hover.png", "playnext.png", "playnext_hover.png",
+        // Levels
+        "level1game.jpg", "level2game.jpg", "level3game.png", "sling.png", "pause.png", "pause_hover.png",
+        "redbird.png", "yellowbird.png", "blackbird.png", "pig.png", "pighurt.png", "magicpig.png",
+        "zombiepig.png", "crate.png", "glass.png", "tnt.png"
+    };
+
     private final Main game;
     private final SpriteBatch batch;
-    private final Texture gameScreenImage;
+    private final ShapeRenderer shapeRenderer;
+    private final TextureRegion gameScreenImage;
     private final float screenWidth;
     private final float screenHeight;
-    private float elapsedTime = 0.0F;
 
     public GameScreen(Main game) {
         this.game = game;
         this.batch = game.batch;
-        this.gameScreenImage = new Texture("gamescreen.jpg");
+        this.shapeRenderer = new ShapeRenderer();
+        this.gameScreenImage = this.game.textures.acquire("gamescreen.jpg", this);
         this.screenWidth = (float)Gdx.graphics.getWidth();
         this.screenHeight = (float)Gdx.graphics.getHeight();
+
+        for (String path : PRELOADED_TEXTURES) {
+            this.game.textures.preload(path);
+        }
     }
 
     public void show() {
     }
 
     public void render(float delta) {
-        this.elapsedTime += delta;
-        if (this.elapsedTime > 3.0F) {
-            this.game.setScreen(new HomeScreen(this.game));
+        // Leave the splash as soon as everything is loaded
+        if (this.game.textures.update()) {
+            this.game.showFirstScreen();
+            if (!this.game.musicMuted) {
+                this.game.backgroundMusic.play();
+            }
+            this.dispose(); // The splash is never shown again
+            return;
         }
 
         ScreenUtils.clear(0.15F, 0.15F, 0.2F, 1.0F);
         this.batch.begin();
         this.batch.draw(this.gameScreenImage, 0.0F, 0.0F, this.screenWidth, this.screenHeight);
         this.batch.end();
+
+        // Loading progress bar
+        float barWidth = this.screenWidth * 0.5F;
+        float barHeight = 16.0F;
+        float barX = (this.screenWidth - barWidth) / 2.0F;
+        float barY = 40.0F;
+        this.shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        this.shapeRenderer.setColor(0.1F, 0.1F, 0.1F, 1.0F);
+        this.shapeRenderer.rect(barX, barY, barWidth, barHeight);
+        this.shapeRenderer.setColor(0.95F, 0.75F, 0.2F, 1.0F);
+        this.shapeRenderer.rect(barX, barY, barWidth * this.game.textures.getProgress(), barHeight);
+        this.shapeRenderer.end();
     }
 
     public void resize(int width, int height) {
@@ -52,7 +89,8 @@ public class GameScreen implements Screen {
     }
 
     public void dispose() {
-        this.gameScreenImage.dispose();
+        this.game.textures.release(this.gameScreenImage, this);
+        this.shapeRenderer.dispose();
     }
 }
 //huhiguy  t yuu
@@ -2,8 +2,8 @@ package io.github.akanksha23056.Screen;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.ScreenUtils;
 import io.github.akanksha23056.Main;
@@ -11,22 +11,22 @@ import io.github.akanksha23056.Main;
 public class HomeScreen implements Screen {
     private final Main game;
     private final SpriteBatch batch;
-    private final Texture homeScreenImage;
-    private final Texture playButtonImage;
-    private final Texture playButtonHoverImage;
-    private final Texture settingsButtonImage;
-    private final Texture settingsButtonHoverImage;
+    private final TextureRegion homeScreenImage;
+    private final TextureRegion playButtonImage;
+    private final TextureRegion playButtonHoverImage;
+    private final TextureRegion settingsButtonImage;
+    private final TextureRegion settingsButtonHoverImage;
     private final Rectangle playButtonBounds;
     private final Rectangle settingsButtonBounds;
 
     public HomeScreen(Main game) {
         this.game = game;
         this.batch = game.batch;
-        this.homeScreenImage = new Texture("homescreen.jpg");
-        this.playButtonImage = new Texture("playbutton.png");
-        this.playButtonHoverImage = new Texture("playbutton.png"); // Ensure this is the correct hover texture
-        this.settingsButtonImage = new Texture("settings.png");
-        this.settingsButtonHoverImage = new Texture("settings_hover.png");
+        this.homeScreenImage = game.textures.acquire("homescreen.jpg", this);
+        this.playButtonImage = game.textures.acquire("playbutton.png", this);
+        this.playButtonHoverImage = game.textures.acquire("playbutton.png", this); // Ensure this is the correct hover texture
+        this.settingsButtonImage = game.textures.acquire("settings.png", this);
+        this.settingsButtonHoverImage = game.textures.acquire("settings_hover.png", this);
 
         // Play button configuration
         float playButtonWidth = 300.0F;
@@ -65,7 +65,7 @@ public class HomeScreen implements Screen {
             if (Gdx.input.isTouched()) {
                 game.playButtonClickSound(); // Play button click sound
                 game.backgroundMusic.stop(); // Stop the music when navigating to the next screen
-                game.setScreen(new LevelsScreen(game)); // Transition to LevelsScreen
+                game.screens.showLevels(); // Transition to LevelsScreen
             }
         } else {
             batch.draw(playButtonImage, playButtonBounds.x, playButtonBounds.y, playButtonBounds.width, playButtonBounds.height);
@@ -77,7 +77,7 @@ public class HomeScreen implements Screen {
             batch.draw(settingsButtonHoverImage, settingsButtonBounds.x - 5, settingsButtonBounds.y - 5, settingsButtonBounds.width + 10, settingsButtonBounds.height + 10);
             if (Gdx.input.isTouched()) {
                 game.playButtonClickSound(); // Play button click sound
-                game.setScreen(new SettingsScreen(game)); // Transition to SettingsScreen
+                game.screens.showSettings(); // Transition to SettingsScreen
             }
         } else {
             batch.draw(settingsButtonImage, settingsButtonBounds.x, settingsButtonBounds.y, settingsButtonBounds.width, settingsButtonBounds.height);
@@ -86,11 +86,11 @@ public class HomeScreen implements Screen {
 
     @Override
     public void dispose() {
-        homeScreenImage.dispose();
-        playButtonImage.dispose();
-        playButtonHoverImage.dispose();
-        settingsButtonImage.dispose();
-        settingsButtonHoverImage.dispose();
+        game.textures.release(homeScreenImage, this);
+        game.textures.release(playButtonImage, this);
+        game.textures.release(playButtonHoverImage, this);
+        game.textures.release(settingsButtonImage, this);
+        game.textures.release(settingsButtonHoverImage, this);
     }
 
     @Override
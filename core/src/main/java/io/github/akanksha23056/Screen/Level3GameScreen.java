@@ -1,534 +1,137 @@
 package io.github.akanksha23056.Screen;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.ScreenUtils;
+import io.github.akanksha23056.Core.CommandSource;
+import io.github.akanksha23056.Core.Level3Simulation;
+import io.github.akanksha23056.Core.LevelSimulation;
+import io.github.akanksha23056.Core.WorldRandom;
+import io.github.akanksha23056.Debug.FrameProfiler;
 import io.github.akanksha23056.Main;
+import io.github.akanksha23056.Objects.BirdType;
+import io.github.akanksha23056.Physics.EntityStore;
+import io.github.akanksha23056.Physics.Material;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-
-public class Level3GameScreen implements Screen {
-    private final Main game;
-    private final SpriteBatch batch;
-
+public class Level3GameScreen extends LevelGameScreen<Level3Simulation> {
     // Textures
-    private final Texture levelImage;
-    private final Texture slingshotTexture;
-    private final Texture redBirdTexture;
-    private final Texture yellowBirdTexture;
-    private final Texture blackBirdTexture;
-    private final Texture blackExplodeTexture;
-    private final Texture pigTexture;
-    private final Texture pigHurtTexture;
-    private final Texture zombiePigTexture; // New: Zombie pig texture
-    private final Texture crateTexture;
-    private final Texture glassTexture;
-    private final Texture pauseButtonTexture;
-    private final Texture pauseButtonHoverTexture;
-
-    // Pause Button
-    private final Rectangle pauseButtonBounds;
-
-    // Bird properties
-    private enum BirdType { RED, YELLOW, BLACK }
-
-    private BirdType currentBirdType = BirdType.RED;
-    private Vector2 redBirdPosition, yellowBirdPosition, blackBirdPosition;
-    private Vector2 birdVelocity;
-    private boolean isDragging;
-    private boolean isBirdLaunched = false;
-    private boolean isBlackBirdExploded = false;
-
-    // Zombie Pig
-    private Pig zombiePig = null; // Reference to zombie pig
-    private boolean isZombiePigSpawned = false;
-
-    // Gravity and damping
-    private final Vector2 gravity = new Vector2(0, -0.05f);
-    private final float damping = 0.98f;
-
-    // Sling properties
-    private final Vector2 slingshotPosition;
-    private final float slingshotRadius = 1.5f;
-
-    // Game elements
-    private static class Pig {
-        Rectangle bounds;
-        Vector2 velocity;
-        boolean isHurt;
-
-        Pig(Rectangle bounds) {
-            this.bounds = bounds;
-            this.velocity = new Vector2(0, 0);
-            this.isHurt = false;
-        }
-    }
-
-    private static class Crate {
-        Rectangle bounds;
-        Vector2 velocity;
-
-        Crate(Rectangle bounds) {
-            this.bounds = bounds;
-            this.velocity = new Vector2(0, 0);
-        }
-    }
-
-    private static class Glass {
-        Rectangle bounds;
-        Vector2 velocity;
-        float rotationAngle; // New: Simulates the rotation
-
-        Glass(Rectangle bounds) {
-            this.bounds = bounds;
-            this.velocity = new Vector2(0, 0);
-            this.rotationAngle = 0; // Initially upright
-        }
-    }
-
-    private final ArrayList<Pig> pigs = new ArrayList<>();
-    private final ArrayList<Crate> crates = new ArrayList<>();
-    private final ArrayList<Glass> glassSlabs = new ArrayList<>();
-
-    // Ground height
-    private final float groundY = 100;
-
-    // Pause state
-    private boolean isPaused = false;
-
-    public Level3GameScreen(Main game) {
-        this.game = game;
-        this.batch = game.batch;
+    private final TextureRegion levelImage;
+    private final TextureRegion slingshotTexture;
+    private final TextureRegion redBirdTexture;
+    private final TextureRegion yellowBirdTexture;
+    private final TextureRegion blackBirdTexture;
+    private final TextureRegion blackExplodeTexture;
+    private final TextureRegion pigTexture;
+    private final TextureRegion pigHurtTexture;
+    private final TextureRegion zombiePigTexture; // New: Zombie pig texture
+    private final TextureRegion crateTexture;
+    private final TextureRegion glassTexture;
+
+    public Level3GameScreen(Main game, CommandSource commands, WorldRandom random) {
+        super(game, new Level3Simulation(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), commands, random));
 
         // Load textures
-        this.levelImage = new Texture("level3game.png");
-        this.slingshotTexture = new Texture("sling.png");
-        this.redBirdTexture = new Texture("redbird.png");
-        this.yellowBirdTexture = new Texture("yellowbird.png");
-        this.blackBirdTexture = new Texture("blackbird.png");
-        this.blackExplodeTexture = new Texture("blackexplode.png");
-        this.pigTexture = new Texture("pig.png");
-        this.pigHurtTexture = new Texture("pighurt.png");
-        this.zombiePigTexture = new Texture("zombiepig.png");
-        this.crateTexture = new Texture("crate.png");
-        this.glassTexture = new Texture("glass.png");
-        this.pauseButtonTexture = new Texture("pause.png");
-        this.pauseButtonHoverTexture = new Texture("pause_hover.png");
-
-        // Pause Button
-        this.pauseButtonBounds = new Rectangle(10, Gdx.graphics.getHeight() - 120, 100, 100);
-
-        // Slingshot position
-        this.slingshotPosition = new Vector2(200, groundY + 40);
-
-        // Bird positions
-        this.redBirdPosition = new Vector2(slingshotPosition.x - 30, slingshotPosition.y);
-        this.yellowBirdPosition = new Vector2(slingshotPosition.x - 50, slingshotPosition.y);
-        this.blackBirdPosition = new Vector2(slingshotPosition.x - 70, slingshotPosition.y);
-        this.birdVelocity = new Vector2(0, 0);
-        this.isDragging = false;
-
-        // Initialize crates
-        for (int i = 0; i < 3; i++) {
-            crates.add(new Crate(new Rectangle(300 + i * 100, groundY, 50, 50)));
-        }
-
-        // Initialize glass slabs
-        for (Crate crate : crates) {
-            glassSlabs.add(new Glass(new Rectangle(crate.bounds.x + 15, crate.bounds.y + crate.bounds.height, 20, 100)));
-        }
-
-        // Initialize pigs
-        for (Glass glass : glassSlabs) {
-            pigs.add(new Pig(new Rectangle(glass.bounds.x - 15, glass.bounds.y + glass.bounds.height, 50, 50)));
-        }
-    }
-
-    private void checkWinCondition() {
-        boolean allPigsHit = true;
-        for (Pig pig : pigs) {
-            if (!pig.isHurt) {
-                allPigsHit = false;
-                break;
-            }
-        }
-        if (allPigsHit) {
-            game.setScreen(new WinScreen(game, 3)); // Redirect to WinScreen for Level 3
-        }
+        this.levelImage = game.textures.acquire("level3game.png", this);
+        this.slingshotTexture = game.textures.acquire("sling.png", this);
+        this.redBirdTexture = game.textures.acquire("redbird.png", this);
+        this.yellowBirdTexture = game.textures.acquire("yellowbird.png", this);
+        this.blackBirdTexture = game.textures.acquire("blackbird.png", this);
+        this.blackExplodeTexture = game.textures.acquire("blackexplode.png", this);
+        this.pigTexture = game.textures.acquire("pig.png", this);
+        this.pigHurtTexture = game.textures.acquire("pighurt.png", this);
+        this.zombiePigTexture = game.textures.acquire("zombiepig.png", this);
+        this.crateTexture = game.textures.acquire("crate.png", this);
+        this.glassTexture = game.textures.acquire("glass.png", this);
     }
 
     @Override
     public void render(float delta) {
-        if (isPaused) return;
-
         // Clear screen
         ScreenUtils.clear(0.2f, 0.2f, 0.2f, 1.0f);
 
-        // Update game mechanics
-        updateBirdPosition();
-        updateCrates();
-        updateGlassSlabs();
-        updatePigs();
-        checkCollisions();
-
-        // Check win condition
-        checkWinCondition();
+        // The simulation catches up in fixed ticks and stops as soon as one of them ends the level
+        int steps = timestep.advance(delta);
+        for (int i = 0; i < steps && simulation.getOutcome() == LevelSimulation.Outcome.PLAYING; i++) {
+            simulation.step();
+        }
+        if (simulation.getOutcome() == LevelSimulation.Outcome.WON) {
+            game.screens.showWin(3); // Redirect to WinScreen for Level 3
+        }
+        updateTrajectory();
 
         // Draw everything
+        long drawStart = FrameProfiler.begin();
         batch.begin();
 
         // Draw background
         batch.draw(levelImage, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
 
         // Draw slingshot
+        Vector2 slingshotPosition = simulation.slingshotPosition;
         batch.draw(slingshotTexture, slingshotPosition.x - 25, slingshotPosition.y - 50, 50, 100);
 
+        // Draw aim preview, empty unless the sling is pulled
+        drawTrajectory();
+
         // Draw birds
+        BirdType currentBirdType = simulation.getCurrentBirdType();
+        boolean isBirdLaunched = simulation.isBirdLaunched();
         if (!isBirdLaunched || currentBirdType == BirdType.RED) {
-            batch.draw(redBirdTexture, redBirdPosition.x - 25, redBirdPosition.y - 25, 50, 50);
+            drawBird(redBirdTexture, BirdType.RED);
         }
         if (!isBirdLaunched || currentBirdType == BirdType.YELLOW) {
-            batch.draw(yellowBirdTexture, yellowBirdPosition.x - 25, yellowBirdPosition.y - 25, 50, 50);
+            drawBird(yellowBirdTexture, BirdType.YELLOW);
         }
-        if (!isBlackBirdExploded) {
-            batch.draw(blackBirdTexture, blackBirdPosition.x - 25, blackBirdPosition.y - 25, 50, 50);
+        if (!simulation.isBlackBirdExploded()) {
+            drawBird(blackBirdTexture, BirdType.BLACK);
         } else {
+            Vector2 blackBirdPosition = simulation.getBirdPosition(BirdType.BLACK);
             batch.draw(blackExplodeTexture, blackBirdPosition.x - 50, blackBirdPosition.y - 50, 100, 100);
         }
 
-        // Draw pigs
-        for (Pig pig : pigs) {
-            Texture textureToDraw = pig.isHurt ? pigHurtTexture : pigTexture;
-            batch.draw(textureToDraw, pig.bounds.x, pig.bounds.y, pig.bounds.width, pig.bounds.height);
-        }
-
-        // Draw zombie pig if spawned
-        if (isZombiePigSpawned && zombiePig != null) {
-            Texture textureToDraw = zombiePig.isHurt ? pigHurtTexture : zombiePigTexture;
-            batch.draw(textureToDraw, zombiePig.bounds.x, zombiePig.bounds.y, zombiePig.bounds.width, zombiePig.bounds.height);
-        }
-
-        // Draw crates
-        for (Crate crate : crates) {
-            batch.draw(crateTexture, crate.bounds.x, crate.bounds.y, crate.bounds.width, crate.bounds.height);
-        }
-
-        // Draw glass slabs with rotation
-        for (Glass glass : glassSlabs) {
-            batch.draw(glassTexture,
-                glass.bounds.x, glass.bounds.y,
-                glass.bounds.width / 2, glass.bounds.height / 2, // Rotation origin (center)
-                glass.bounds.width, glass.bounds.height,
-                1, 1, // Scale
-                glass.rotationAngle, // Rotation angle
-                0, 0, // Texture origin
-                glassTexture.getWidth(), glassTexture.getHeight(),
-                false, false);
-        }
-
-        // Draw pause button
-        drawPauseButton();
-
-        batch.end();
-    }
-
-    private void updateBirdPosition() {
-        Vector2 currentBirdPosition;
-        float speedMultiplier;
-        switch (currentBirdType) {
-            case RED:
-                currentBirdPosition = redBirdPosition;
-                speedMultiplier = 1.0f; // Normal speed for red bird
-                break;
-            case YELLOW:
-                currentBirdPosition = yellowBirdPosition;
-                speedMultiplier = 1.5f; // Faster speed for yellow bird
-                break;
-            case BLACK:
-                currentBirdPosition = blackBirdPosition;
-                speedMultiplier = 1.5f; // Same speed as yellow bird
-                break;
-            default:
-                throw new IllegalStateException("Unexpected value: " + currentBirdType);
-        }
-
-        if (isBirdLaunched) {
-            birdVelocity.add(gravity);
-            birdVelocity.scl(damping);
-            currentBirdPosition.add(birdVelocity);
-
-            if (currentBirdPosition.y <= groundY) {
-                currentBirdPosition.y = groundY;
-                birdVelocity.setZero();
-
-                if (currentBirdType == BirdType.BLACK && !isBlackBirdExploded) {
-                    isBlackBirdExploded = true;
-                    handleExplosion();
-                } else if (currentBirdType == BirdType.RED) {
-                    currentBirdType = BirdType.YELLOW;
-                    isBirdLaunched = false;
-                } else if (currentBirdType == BirdType.YELLOW) {
-                    currentBirdType = BirdType.BLACK;
-                    isBirdLaunched = false;
-                }
-            }
-        } else if (Gdx.input.isTouched()) {
-            Vector2 touchPosition = new Vector2(Gdx.input.getX(), Gdx.graphics.getHeight() - Gdx.input.getY());
-
-            if (isDragging || touchPosition.dst(slingshotPosition) <= slingshotRadius * 100) {
-                isDragging = true;
-
-                if (touchPosition.dst(slingshotPosition) > slingshotRadius * 100) {
-                    currentBirdPosition.set(slingshotPosition.cpy().add(touchPosition.sub(slingshotPosition).nor().scl(slingshotRadius * 100)));
-                } else {
-                    currentBirdPosition.set(touchPosition);
-                }
-            }
-        } else if (isDragging) {
-            isDragging = false;
-            isBirdLaunched = true;
-            birdVelocity.set(slingshotPosition.cpy().sub(currentBirdPosition).scl(0.15f * speedMultiplier));
-        }
-    }
-
-    private void updateCrates() {
-        for (Crate crate : crates) {
-            crate.velocity.add(gravity);
-            crate.bounds.x += crate.velocity.x;
-            crate.bounds.y += crate.velocity.y;
-
-            // Stop crate at the ground
-            if (crate.bounds.y < groundY) {
-                crate.bounds.y = groundY;
-                crate.velocity.y = 0;
-            }
-
-            // Reduce velocity over time for realistic sliding
-            crate.velocity.x *= 0.95f; // Friction
-        }
-    }
-
-    private void updateGlassSlabs() {
-        for (Glass glass : glassSlabs) {
-            boolean isSupported = false;
-
-            // Check if the glass is supported by any crate
-            for (Crate crate : crates) {
-                if (crate.bounds.overlaps(new Rectangle(glass.bounds.x, glass.bounds.y - 1, glass.bounds.width, 1))) {
-                    isSupported = true;
-
-                    // Inherit crate's velocity if it moves significantly
-                    if (Math.abs(crate.velocity.x) > 0.2f) {
-                        glass.velocity.x += crate.velocity.x * 0.5f; // Add fraction of crate velocity
-                        glass.rotationAngle += crate.velocity.x * 2.0f; // Increase tilt based on crate movement
-                    }
-
-                    // Prevent tipping beyond 45 degrees while on the crate
-                    if (Math.abs(glass.rotationAngle) > 45) {
-                        glass.rotationAngle = Math.signum(glass.rotationAngle) * 45;
-                    }
-                    break;
-                }
-            }
-
-            // Apply gravity if unsupported
-            if (!isSupported) {
-                glass.velocity.add(gravity);
-            }
-
-            // Apply rotation-based falling logic
-            if (Math.abs(glass.rotationAngle) > 45 || !isSupported) {
-                // Glass slab starts to fall
-                glass.rotationAngle += 1.0f * Math.signum(glass.velocity.x); // Continue tipping
-                if (Math.abs(glass.rotationAngle) >= 90) {
-                    glass.rotationAngle = 90; // Fully tipped
-                }
-
-                // Move horizontally as it tips and falls
-                glass.bounds.x += glass.velocity.x + Math.signum(glass.rotationAngle) * 2.0f;
-            }
-
-            // Update glass position with velocity
-            glass.bounds.x += glass.velocity.x;
-            glass.bounds.y += glass.velocity.y;
-
-            // Stop glass at the ground
-            if (glass.bounds.y < groundY) {
-                glass.bounds.y = groundY;
-                glass.velocity.setZero();
-            }
-        }
-    }
-
-    private void updatePigs() {
-        for (Pig pig : pigs) {
-            boolean isSupported = false;
-
-            for (Glass glass : glassSlabs) {
-                if (glass.bounds.overlaps(new Rectangle(pig.bounds.x, pig.bounds.y - 1, pig.bounds.width, 1))) {
-                    isSupported = true;
-                    break;
-                }
-            }
-
-            if (!isSupported) {
-                pig.velocity.add(gravity);
-            }
-
-            pig.bounds.x += pig.velocity.x;
-            pig.bounds.y += pig.velocity.y;
-
-            if (pig.bounds.y < groundY) {
-                pig.bounds.y = groundY;
-                pig.velocity.y = 0;
-            }
-        }
-    }
-
-    private void checkCollisions() {
-        Vector2 currentBirdPosition;
-        switch (currentBirdType) {
-            case RED:
-                currentBirdPosition = redBirdPosition;
-                break;
-            case YELLOW:
-                currentBirdPosition = yellowBirdPosition;
-                break;
-            case BLACK:
-                currentBirdPosition = blackBirdPosition;
-                break;
-            default:
-                throw new IllegalStateException("Unexpected value: " + currentBirdType);
-        }
-
-        for (Pig pig : pigs) {
-            if (!pig.isHurt && currentBirdPosition.dst(pig.bounds.x + 25, pig.bounds.y + 25) < 25) {
-                pig.isHurt = true;
-
-                // Spawn zombie pig when any pig turns into pighurt.png
-                if (!isZombiePigSpawned) {
-                    float randomX = 100 + (float) Math.random() * (Gdx.graphics.getWidth() - 200);
-                    zombiePig = new Pig(new Rectangle(randomX, groundY, 50, 50));
-                    isZombiePigSpawned = true;
-                }
-            }
-        }
-
-        // Check collision with zombie pig
-        if (isZombiePigSpawned && zombiePig != null && !zombiePig.isHurt) {
-            if (currentBirdPosition.dst(zombiePig.bounds.x + 25, zombiePig.bounds.y + 25) < 25) {
-                zombiePig.isHurt = true;
+        // Draw pigs (including the zombie pig once spawned)
+        for (int i = 0; i < entities.size; i++) {
+            if (entities.materials[i] != Material.PIG) continue;
+            if (entities.hasFlag(i, EntityStore.HURT)) {
+                drawEntity(pigHurtTexture, i);
+            } else {
+                drawEntity(entities.hasFlag(i, EntityStore.ZOMBIE) ? zombiePigTexture : pigTexture, i);
             }
         }
 
-        for (Crate crate : crates) {
-            if (currentBirdPosition.dst(crate.bounds.x + 25, crate.bounds.y + 25) < 25) {
-                crate.velocity.add(birdVelocity.cpy().scl(0.5f));
+        // Draw crates, then glass slabs with rotation
+        for (int i = 0; i < entities.size; i++) {
+            if (entities.materials[i] == Material.WOOD) {
+                drawEntity(crateTexture, i);
             }
         }
-
-        for (Glass glass : glassSlabs) {
-            if (currentBirdPosition.dst(glass.bounds.x + 10, glass.bounds.y + 50) < 25) {
-                glass.velocity.add(birdVelocity.cpy().scl(0.5f));
-                glass.rotationAngle = 5; // Initiate tipping
-            }
-        }
-    }
-
-    private void handleExplosion() {
-        Iterator<Pig> pigIterator = pigs.iterator();
-        while (pigIterator.hasNext()) {
-            Pig pig = pigIterator.next();
-            if (blackBirdPosition.dst(pig.bounds.x + 25, pig.bounds.y + 25) < 100) {
-                pigIterator.remove();
-            }
-        }
-
-        Iterator<Crate> crateIterator = crates.iterator();
-        while (crateIterator.hasNext()) {
-            Crate crate = crateIterator.next();
-            if (blackBirdPosition.dst(crate.bounds.x + 25, crate.bounds.y + 25) < 100) {
-                crateIterator.remove();
-            }
-        }
-
-        Iterator<Glass> glassIterator = glassSlabs.iterator();
-        while (glassIterator.hasNext()) {
-            Glass glass = glassIterator.next();
-            if (blackBirdPosition.dst(glass.bounds.x + 10, glass.bounds.y + 50) < 100) {
-                glassIterator.remove();
+        for (int i = 0; i < entities.size; i++) {
+            if (entities.materials[i] == Material.GLASS) {
+                drawEntity(glassTexture, i);
             }
         }
-    }
-
-    private void checkGameOver() {
-        boolean allPigsHit = true;
-        for (Level3GameScreen.Pig pig : pigs) {
-            if (!pig.isHurt) {
-                allPigsHit = false;
-                break;
-            }
-        }
-        if (!allPigsHit) {
-            game.setScreen(new LoseScreen(game, 3)); // Redirect to LoseScreen for Level 3
-        }
-    }
-
 
+        // Draw pause button
+        drawPauseButton();
 
-    private void drawPauseButton() {
-        boolean isHovered = pauseButtonBounds.contains(Gdx.input.getX(), Gdx.graphics.getHeight() - Gdx.input.getY());
-        if (isHovered) {
-            batch.draw(pauseButtonHoverTexture, pauseButtonBounds.x - 5, pauseButtonBounds.y - 5,
-                pauseButtonBounds.width + 10, pauseButtonBounds.height + 10);
-            if (Gdx.input.isButtonJustPressed(0)) {
-                pauseGame();
-            }
-        } else {
-            batch.draw(pauseButtonTexture, pauseButtonBounds.x, pauseButtonBounds.y,
-                pauseButtonBounds.width, pauseButtonBounds.height);
-        }
-    }
-
-    private void pauseGame() {
-        game.setScreen(new PauseScreen(game, this));
-    }
-
-    @Override
-    public void show() {
-        if (!game.musicMuted && !game.backgroundMusic.isPlaying()) {
-            game.backgroundMusic.play();
-        }
+        batch.end();
+        FrameProfiler.end(FrameProfiler.DRAW, drawStart);
     }
 
     @Override
     public void dispose() {
-        levelImage.dispose();
-        slingshotTexture.dispose();
-        redBirdTexture.dispose();
-        yellowBirdTexture.dispose();
-        blackBirdTexture.dispose();
-        blackExplodeTexture.dispose();
-        pigTexture.dispose();
-        zombiePigTexture.dispose();
-        pigHurtTexture.dispose();
-        crateTexture.dispose();
-        glassTexture.dispose();
-        pauseButtonTexture.dispose();
-        pauseButtonHoverTexture.dispose();
+        super.dispose();
+        game.textures.release(levelImage, this);
+        game.textures.release(slingshotTexture, this);
+        game.textures.release(redBirdTexture, this);
+        game.textures.release(yellowBirdTexture, this);
+        game.textures.release(blackBirdTexture, this);
+        game.textures.release(blackExplodeTexture, this);
+        game.textures.release(pigTexture, this);
+        game.textures.release(zombiePigTexture, this);
+        game.textures.release(pigHurtTexture, this);
+        game.textures.release(crateTexture, this);
+        game.textures.release(glassTexture, this);
     }
-
-    @Override
-    public void resize(int width, int height) {}
-    @Override
-    public void pause() {}
-    @Override
-    public void resume() {}
-    @Override
-    public void hide() {}
 }
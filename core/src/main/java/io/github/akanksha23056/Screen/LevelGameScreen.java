@@ -0,0 +1,133 @@
+package io.github.akanksha23056.Screen;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import io.github.akanksha23056.Core.LevelSimulation;
+import io.github.akanksha23056.Main;
+import io.github.akanksha23056.Objects.BirdType;
+import io.github.akanksha23056.Objects.TrajectoryPreview;
+import io.github.akanksha23056.Physics.EntityStore;
+import io.github.akanksha23056.Physics.FixedTimestep;
+
+// What the level screens share: the simulation and its clock, the aim preview, the pause button,
+// and drawing birds and entities between their last two simulated positions
+public abstract class LevelGameScreen<S extends LevelSimulation> implements LevelScreen {
+    protected final Main game;
+    protected final SpriteBatch batch;
+
+    // Rules and physics of the level, fed from the touch screen or a script
+    protected final S simulation;
+    protected final EntityStore entities;
+
+    // Simulation clock, the level runs once per tick
+    protected final FixedTimestep timestep = new FixedTimestep();
+
+    // Dotted flight path shown while aiming
+    private final TrajectoryPreview trajectory;
+    private final TextureRegion trajectoryTexture;
+
+    // Pause Button
+    private final TextureRegion pauseButtonTexture;
+    private final TextureRegion pauseButtonHoverTexture;
+    private final Rectangle pauseButtonBounds;
+
+    protected LevelGameScreen(Main game, S simulation) {
+        this.game = game;
+        this.batch = game.batch;
+        this.simulation = simulation;
+        this.entities = simulation.entities;
+        this.trajectory = new TrajectoryPreview(LevelSimulation.GRAVITY, LevelSimulation.DAMPING, simulation.getGroundY());
+
+        this.trajectoryTexture = game.textures.acquire("trajectory.png", this);
+        this.pauseButtonTexture = game.textures.acquire("pause.png", this);
+        this.pauseButtonHoverTexture = game.textures.acquire("pause_hover.png", this);
+        this.pauseButtonBounds = new Rectangle(10, Gdx.graphics.getHeight() - 120, 100, 100);
+    }
+
+    @Override
+    public S getSimulation() {
+        return simulation;
+    }
+
+    @Override
+    public void show() {
+        if (!game.musicMuted && !game.backgroundMusic.isPlaying()) {
+            game.backgroundMusic.play();
+        }
+    }
+
+    // Follows the pulled bird; the preview only recomputes when the pull point moves
+    protected void updateTrajectory() {
+        if (simulation.isDragging()) {
+            Vector2 birdPosition = simulation.getBirdPosition(simulation.getCurrentBirdType());
+            trajectory.aim(simulation.slingshotPosition.x, simulation.slingshotPosition.y,
+                birdPosition.x, birdPosition.y, simulation.getLaunchSpeed());
+        } else {
+            trajectory.hide();
+        }
+    }
+
+    // Empty unless the sling is pulled
+    protected void drawTrajectory() {
+        trajectory.draw(batch, trajectoryTexture);
+    }
+
+    // Draws a bird between its last two simulated positions
+    protected void drawBird(TextureRegion texture, BirdType bird) {
+        Vector2 previous = simulation.getPreviousBirdPosition(bird);
+        Vector2 current = simulation.getBirdPosition(bird);
+        batch.draw(texture,
+            timestep.interpolate(previous.x, current.x) - 25,
+            timestep.interpolate(previous.y, current.y) - 25, 50, 50);
+    }
+
+    // Draws an entity between its last two simulated positions, rotated about its centre
+    protected void drawEntity(TextureRegion texture, int index) {
+        float width = entities.width[index];
+        float height = entities.height[index];
+        batch.draw(texture,
+            timestep.interpolate(entities.previousX[index], entities.x[index]),
+            timestep.interpolate(entities.previousY[index], entities.y[index]),
+            width / 2, height / 2, width, height,
+            1, 1, timestep.interpolate(entities.previousRotation[index], entities.rotation[index]));
+    }
+
+    protected void drawPauseButton() {
+        boolean isHovered = pauseButtonBounds.contains(Gdx.input.getX(), Gdx.graphics.getHeight() - Gdx.input.getY());
+        if (isHovered) {
+            batch.draw(pauseButtonHoverTexture, pauseButtonBounds.x - 5, pauseButtonBounds.y - 5,
+                pauseButtonBounds.width + 10, pauseButtonBounds.height + 10);
+            if (Gdx.input.isButtonJustPressed(0)) {
+                pauseGame();
+            }
+        } else {
+            batch.draw(pauseButtonTexture, pauseButtonBounds.x, pauseButtonBounds.y,
+                pauseButtonBounds.width, pauseButtonBounds.height);
+        }
+    }
+
+    private void pauseGame() {
+        game.screens.pauseLevel();
+    }
+
+    // Screens release their own textures after calling this
+    @Override
+    public void dispose() {
+        simulation.dispose();
+        game.textures.release(trajectoryTexture, this);
+        game.textures.release(pauseButtonTexture, this);
+        game.textures.release(pauseButtonHoverTexture, this);
+    }
+
+    @Override
+    public void resize(int width, int height) {}
+    @Override
+    public void pause() {}
+    @Override
+    public void resume() {}
+    @Override
+    public void hide() {}
+}
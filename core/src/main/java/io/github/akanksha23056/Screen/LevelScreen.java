@@ -0,0 +1,9 @@
+package io.github.akanksha23056.Screen;
+
+import com.badlogic.gdx.Screen;
+import io.github.akanksha23056.Core.LevelSimulation;
+
+// A screen playing one level; ScreenManager restarts and rewinds it through its simulation
+public interface LevelScreen extends Screen {
+    LevelSimulation getSimulation();
+}
@@ -2,29 +2,27 @@ package io.github.akanksha23056.Screen;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.ScreenUtils;
 import io.github.akanksha23056.Main;
 
-import java.util.Random;
-
 public class LevelsScreen implements Screen {
     private final Main game;
     private final SpriteBatch batch;
-    private final Texture levelsImage;
-    private final Texture level1Texture;
-    private final Texture level1HoverTexture;
-    private final Texture level2Texture;
-    private final Texture level2HoverTexture;
-    private final Texture level3Texture;
-    private final Texture level3HoverTexture;
-    private final Texture backButtonTexture;
-    private final Texture backButtonHoverTexture;
-    private final Texture lockTexture;
-    private final Texture randomButtonTexture; // Texture for the random button
-    private final Texture randomButtonHoverTexture; // Hover texture for the random button
+    private final TextureRegion levelsImage;
+    private final TextureRegion level1Texture;
+    private final TextureRegion level1HoverTexture;
+    private final TextureRegion level2Texture;
+    private final TextureRegion level2HoverTexture;
+    private final TextureRegion level3Texture;
+    private final TextureRegion level3HoverTexture;
+    private final TextureRegion backButtonTexture;
+    private final TextureRegion backButtonHoverTexture;
+    private final TextureRegion lockTexture;
+    private final TextureRegion randomButtonTexture; // Texture for the random button
+    private final TextureRegion randomButtonHoverTexture; // Hover texture for the random button
 
     private final Rectangle level1Bounds;
     private final Rectangle level2Bounds;
@@ -35,18 +33,18 @@ public class LevelsScreen implements Screen {
     public LevelsScreen(Main game) {
         this.game = game;
         this.batch = game.batch;
-        this.levelsImage = new Texture("levels.jpg");
-        this.level1Texture = new Texture("level1.png");
-        this.level1HoverTexture = new Texture("level1.png");
-        this.level2Texture = new Texture("level2.png");
-        this.level2HoverTexture = new Texture("level2.png");
-        this.level3Texture = new Texture("level3.png");
-        this.level3HoverTexture = new Texture("level3.png");
-        this.backButtonTexture = new Texture("back.png");
-        this.backButtonHoverTexture = new Texture("back_hover.png");
-        this.lockTexture = new Texture("lock.png");
-        this.randomButtonTexture = new Texture("special.png");
-        this.randomButtonHoverTexture = new Texture("special_hover.png");
+        this.levelsImage = game.textures.acquire("levels.jpg", this);
+        this.level1Texture = game.textures.acquire("level1.png", this);
+        this.level1HoverTexture = game.textures.acquire("level1.png", this);
+        this.level2Texture = game.textures.acquire("level2.png", this);
+        this.level2HoverTexture = game.textures.acquire("level2.png", this);
+        this.level3Texture = game.textures.acquire("level3.png", this);
+        this.level3HoverTexture = game.textures.acquire("level3.png", this);
+        this.backButtonTexture = game.textures.acquire("back.png", this);
+        this.backButtonHoverTexture = game.textures.acquire("back_hover.png", this);
+        this.lockTexture = game.textures.acquire("lock.png", this);
+        this.randomButtonTexture = game.textures.acquire("special.png", this);
+        this.randomButtonHoverTexture = game.textures.acquire("special_hover.png", this);
 
         // Initialize button bounds
         float buttonWidth = 250.0F;
@@ -90,17 +88,17 @@ public class LevelsScreen implements Screen {
 
         // Render level buttons
         renderLevelButton(level1Bounds, level1Texture, level1HoverTexture, 0, () -> {
-            game.setScreen(new Level1GameScreen(game, "level1game.png"));
+            game.screens.showLevel(1);
             game.unlockLevel(1); // Unlock level 2
         });
 
         renderLevelButton(level2Bounds, level2Texture, level2HoverTexture, 1, () -> {
-            game.setScreen(new Level2GameScreen(game));
+            game.screens.showLevel(2);
             game.unlockLevel(2); // Unlock level 3
         });
 
         renderLevelButton(level3Bounds, level3Texture, level3HoverTexture, 2, () -> {
-            game.setScreen(new Level3GameScreen(game));
+            game.screens.showLevel(3);
         });
 
         // Render back button
@@ -112,7 +110,7 @@ public class LevelsScreen implements Screen {
         batch.end();
     }
 
-    private void renderLevelButton(Rectangle bounds, Texture normalTexture, Texture hoverTexture, int levelIndex, Runnable onClick) {
+    private void renderLevelButton(Rectangle bounds, TextureRegion normalTexture, TextureRegion hoverTexture, int levelIndex, Runnable onClick) {
         if (!game.unlockedLevels[levelIndex]) {
             // Draw locked state
             batch.draw(lockTexture, bounds.x, bounds.y, bounds.width, bounds.height);
@@ -133,7 +131,7 @@ public class LevelsScreen implements Screen {
         if (backButtonBounds.contains(Gdx.input.getX(), Gdx.graphics.getHeight() - Gdx.input.getY())) {
             batch.draw(backButtonHoverTexture, backButtonBounds.x - 5.0F, backButtonBounds.y - 5.0F, backButtonBounds.width + 30.0F, backButtonBounds.height + 30.0F);
             if (Gdx.input.isButtonJustPressed(0)) {
-                Gdx.app.postRunnable(() -> game.setScreen(new HomeScreen(game)));
+                Gdx.app.postRunnable(() -> game.screens.showHome());
             }
         } else {
             batch.draw(backButtonTexture, backButtonBounds.x, backButtonBounds.y, backButtonBounds.width, backButtonBounds.height);
@@ -145,25 +143,22 @@ public class LevelsScreen implements Screen {
             batch.draw(randomButtonHoverTexture, randomButtonBounds.x - 5.0F, randomButtonBounds.y - 5.0F, randomButtonBounds.width + 10.0F, randomButtonBounds.height + 10.0F);
             if (Gdx.input.isButtonJustPressed(0)) {
                 Gdx.app.postRunnable(() -> {
-                    // Randomly select one unlocked level
-                    Random random = new Random();
-                    int randomLevel;
-                    do {
-                        randomLevel = random.nextInt(3); // Randomly pick 0, 1, or 2
-                    } while (!game.unlockedLevels[randomLevel]);
-
-                    // Navigate to the selected level
-                    switch (randomLevel) {
-                        case 0:
-                            game.setScreen(new Level1GameScreen(game, "level1game.png"));
-                            break;
-                        case 1:
-                            game.setScreen(new Level2GameScreen(game));
-                            break;
-                        case 2:
-                            game.setScreen(new Level3GameScreen(game));
+                    // Randomly select one unlocked level: pick the n-th unlocked one directly
+                    int unlocked = 0;
+                    for (boolean isUnlocked : game.unlockedLevels) {
+                        if (isUnlocked) unlocked++;
+                    }
+                    int pick = game.screens.getRandom().nextInt(unlocked);
+                    int randomLevel = 0;
+                    for (int i = 0; i < game.unlockedLevels.length; i++) {
+                        if (game.unlockedLevels[i] && pick-- == 0) {
+                            randomLevel = i;
                             break;
+                        }
                     }
+
+                    // Navigate to the selected level
+                    game.screens.showLevel(randomLevel + 1);
                 });
             }
         } else {
@@ -180,17 +175,17 @@ public class LevelsScreen implements Screen {
     public void hide() { }
 
     public void dispose() {
-        levelsImage.dispose();
-        level1Texture.dispose();
-        level1HoverTexture.dispose();
-        level2Texture.dispose();
-        level2HoverTexture.dispose();
-        level3Texture.dispose();
-        level3HoverTexture.dispose();
-        backButtonTexture.dispose();
-        backButtonHoverTexture.dispose();
-        lockTexture.dispose();
-        randomButtonTexture.dispose();
-        randomButtonHoverTexture.dispose();
+        game.textures.release(levelsImage, this);
+        game.textures.release(level1Texture, this);
+        game.textures.release(level1HoverTexture, this);
+        game.textures.release(level2Texture, this);
+        game.textures.release(level2HoverTexture, this);
+        game.textures.release(level3Texture, this);
+        game.textures.release(level3HoverTexture, this);
+        game.textures.release(backButtonTexture, this);
+        game.textures.release(backButtonHoverTexture, this);
+        game.textures.release(lockTexture, this);
+        game.textures.release(randomButtonTexture, this);
+        game.textures.release(randomButtonHoverTexture, this);
     }
 }
@@ -2,8 +2,8 @@ package io.github.akanksha23056.Screen;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.ScreenUtils;
 import io.github.akanksha23056.Main;
@@ -11,19 +11,17 @@ import io.github.akanksha23056.Main;
 public class LoseScreen implements Screen {
     private final Main game;
     private final SpriteBatch batch;
-    private final Texture loseTexture;
-    private final Texture retryButtonTexture;
-    private final Texture retryButtonHoverTexture;
+    private final TextureRegion loseTexture;
+    private final TextureRegion retryButtonTexture;
+    private final TextureRegion retryButtonHoverTexture;
     private final Rectangle retryButtonBounds;
-    private final int currentLevel;
 
-    public LoseScreen(Main game, int currentLevel) {
+    public LoseScreen(Main game) {
         this.game = game;
         this.batch = game.batch;
-        this.loseTexture = new Texture("losescreen.jpg");
-        this.retryButtonTexture = new Texture("replay.png");
-        this.retryButtonHoverTexture = new Texture("replay_hover.png");
-        this.currentLevel = currentLevel;
+        this.loseTexture = game.textures.acquire("losescreen.jpg", this);
+        this.retryButtonTexture = game.textures.acquire("replay.png", this);
+        this.retryButtonHoverTexture = game.textures.acquire("replay_hover.png", this);
 
         // Set button bounds
         float buttonWidth = 180f, buttonHeight = 180f;
@@ -52,7 +50,7 @@ public class LoseScreen implements Screen {
         batch.end();
     }
 
-    private void drawButton(Rectangle bounds, Texture buttonTexture, Texture hoverTexture, Runnable action) {
+    private void drawButton(Rectangle bounds, TextureRegion buttonTexture, TextureRegion hoverTexture, Runnable action) {
         boolean isHovered = bounds.contains(Gdx.input.getX(), Gdx.graphics.getHeight() - Gdx.input.getY());
 
         if (isHovered) {
@@ -66,15 +64,7 @@ public class LoseScreen implements Screen {
     }
 
     private void handleRetry() {
-        switch (currentLevel) {
-            case 1:
-                game.setScreen(new Level1GameScreen(game, "level1game.jpg"));
-                break;
-            case 2:
-                game.setScreen(new Level2GameScreen(game));
-                break;
-            // Add more cases if there are more levels
-        }
+        game.screens.restartLevel();
     }
 
     @Override
@@ -91,8 +81,8 @@ public class LoseScreen implements Screen {
 
     @Override
     public void dispose() {
-        loseTexture.dispose();
-        retryButtonTexture.dispose();
-        retryButtonHoverTexture.dispose();
+        game.textures.release(loseTexture, this);
+        game.textures.release(retryButtonTexture, this);
+        game.textures.release(retryButtonHoverTexture, this);
     }
 }
@@ -2,8 +2,8 @@ package io.github.akanksha23056.Screen;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.ScreenUtils;
 import io.github.akanksha23056.Main;
@@ -11,26 +11,24 @@ import io.github.akanksha23056.Main;
 public class PauseScreen implements Screen {
     private final Main game;
     private final SpriteBatch batch;
-    private final Screen currentLevel; // Reference to the current level
 
-    private final Texture pauseBackground;
-    private final Texture replayButton, replayHoverButton;
-    private final Texture playButton, playHoverButton;
-    private final Texture menuButton, menuHoverButton;
+    private final TextureRegion pauseBackground;
+    private final TextureRegion replayButton, replayHoverButton;
+    private final TextureRegion playButton, playHoverButton;
+    private final TextureRegion menuButton, menuHoverButton;
     private final Rectangle replayBounds, playBounds, menuBounds;
 
-    public PauseScreen(Main game, Screen currentLevel) {
+    public PauseScreen(Main game) {
         this.game = game;
         this.batch = game.batch;
-        this.currentLevel = currentLevel; // Store the reference to the current level
 
-        this.pauseBackground = new Texture("pausescreen.jpg");
-        this.replayButton = new Texture("replay.png");
-        this.replayHoverButton = new Texture("replay_hover.png");
-        this.playButton = new Texture("play.png");
-        this.playHoverButton = new Texture("play_hover.png");
-        this.menuButton = new Texture("menu.png");
-        this.menuHoverButton = new Texture("menu_hover.png");
+        this.pauseBackground = game.textures.acquire("pausescreen.jpg", this);
+        this.replayButton = game.textures.acquire("replay.png", this);
+        this.replayHoverButton = game.textures.acquire("replay_hover.png", this);
+        this.playButton = game.textures.acquire("play.png", this);
+        this.playHoverButton = game.textures.acquire("play_hover.png", this);
+        this.menuButton = game.textures.acquire("menu.png", this);
+        this.menuHoverButton = game.textures.acquire("menu_hover.png", this);
 
         // Set button sizes and positions
         float buttonWidth = 180f, buttonHeight = 180f;
@@ -51,23 +49,23 @@ public class PauseScreen implements Screen {
         // Draw buttons with hover effects
         drawButton(replayBounds, replayButton, replayHoverButton, () -> {
             game.buttonClickSound.play();
-            restartLevel(); // Restart the current level
+            game.screens.restartLevel(); // Restart the current level
         });
 
         drawButton(playBounds, playButton, playHoverButton, () -> {
             game.buttonClickSound.play();
-            game.setScreen(currentLevel); // Resume the current level
+            game.screens.resumeLevel(); // Resume the current level
         });
 
         drawButton(menuBounds, menuButton, menuHoverButton, () -> {
             game.buttonClickSound.play();
-            game.setScreen(new LevelsScreen(game)); // Go back to LevelsScreen
+            game.screens.showLevels(); // Go back to LevelsScreen
         });
 
         batch.end();
     }
 
-    private void drawButton(Rectangle bounds, Texture buttonTexture, Texture hoverTexture, Runnable action) {
+    private void drawButton(Rectangle bounds, TextureRegion buttonTexture, TextureRegion hoverTexture, Runnable action) {
         boolean isHovered = bounds.contains(Gdx.input.getX(), Gdx.graphics.getHeight() - Gdx.input.getY());
 
         if (isHovered) {
@@ -80,27 +78,15 @@ public class PauseScreen implements Screen {
         }
     }
 
-    // PauseScreen.java
-    private void restartLevel() {
-        if (currentLevel instanceof Level1GameScreen) {
-            game.setScreen(new Level1GameScreen(game, "Level1")); // Pass the required String parameter
-        } else if (currentLevel instanceof Level2GameScreen) {
-            game.setScreen(new Level2GameScreen(game)); // Restart Level2GameScreen
-        } else if (currentLevel instanceof Level3GameScreen) {
-            game.setScreen(new Level3GameScreen(game)); // Restart Level3GameScreen
-        }
-        // Add similar conditions for other levels if necessary
-    }
-
     @Override
     public void dispose() {
-        pauseBackground.dispose();
-        replayButton.dispose();
-        replayHoverButton.dispose();
-        playButton.dispose();
-        playHoverButton.dispose();
-        menuButton.dispose();
-        menuHoverButton.dispose();
+        game.textures.release(pauseBackground, this);
+        game.textures.release(replayButton, this);
+        game.textures.release(replayHoverButton, this);
+        game.textures.release(playButton, this);
+        game.textures.release(playHoverButton, this);
+        game.textures.release(menuButton, this);
+        game.textures.release(menuHoverButton, this);
     }
 
     @Override
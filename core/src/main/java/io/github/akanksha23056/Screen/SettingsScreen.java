@@ -2,8 +2,8 @@ package io.github.akanksha23056.Screen;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.ScreenUtils;
 import io.github.akanksha23056.Main;
@@ -11,18 +11,18 @@ import io.github.akanksha23056.Main;
 public class SettingsScreen implements Screen {
     private final Main game;
     private final SpriteBatch batch;
-    private final Texture settingsBoardImage;
-    private final Texture settingsBackImage;
-    private final Texture settingsBackHoverImage;
-    private final Texture exitImage;
-    private final Texture exitHoverImage;
-    private final Texture faqImage;
-    private final Texture musicImage;
-    private final Texture musicHoverImage;
-    private final Texture musicMuteImage;
-    private final Texture volumeImage;
-    private final Texture volumeHoverImage;
-    private final Texture volumeMuteImage;
+    private final TextureRegion settingsBoardImage;
+    private final TextureRegion settingsBackImage;
+    private final TextureRegion settingsBackHoverImage;
+    private final TextureRegion exitImage;
+    private final TextureRegion exitHoverImage;
+    private final TextureRegion faqImage;
+    private final TextureRegion musicImage;
+    private final TextureRegion musicHoverImage;
+    private final TextureRegion musicMuteImage;
+    private final TextureRegion volumeImage;
+    private final TextureRegion volumeHoverImage;
+    private final TextureRegion volumeMuteImage;
 
     private final Rectangle settingsBackBounds;
     private final Rectangle exitBounds;
@@ -33,18 +33,18 @@ public class SettingsScreen implements Screen {
     public SettingsScreen(Main game) {
         this.game = game;
         this.batch = game.batch;
-        this.settingsBoardImage = new Texture("settingsboard.png");
-        this.settingsBackImage = new Texture("settingsback.png");
-        this.settingsBackHoverImage = new Texture("settingsexit_hover.png");
-        this.exitImage = new Texture("exit.png");
-        this.exitHoverImage = new Texture("exit.png");
-        this.faqImage = new Texture("faq.png");
-        this.musicImage = new Texture("music.png");
-        this.musicHoverImage = new Texture("music_hover.png");
-        this.musicMuteImage = new Texture("musicmute.png");
-        this.volumeImage = new Texture("volume.png");
-        this.volumeHoverImage = new Texture("volume_hover.png");
-        this.volumeMuteImage = new Texture("volumemute.png");
+        this.settingsBoardImage = game.textures.acquire("settingsboard.png", this);
+        this.settingsBackImage = game.textures.acquire("settingsback.png", this);
+        this.settingsBackHoverImage = game.textures.acquire("settingsexit_hover.png", this);
+        this.exitImage = game.textures.acquire("exit.png", this);
+        this.exitHoverImage = game.textures.acquire("exit.png", this);
+        this.faqImage = game.textures.acquire("faq.png", this);
+        this.musicImage = game.textures.acquire("music.png", this);
+        this.musicHoverImage = game.textures.acquire("music_hover.png", this);
+        this.musicMuteImage = game.textures.acquire("musicmute.png", this);
+        this.volumeImage = game.textures.acquire("volume.png", this);
+        this.volumeHoverImage = game.textures.acquire("volume_hover.png", this);
+        this.volumeMuteImage = game.textures.acquire("volumemute.png", this);
 
         float boardWidth = 500f;
         float boardHeight = 300f;
@@ -72,11 +72,11 @@ public class SettingsScreen implements Screen {
 
         // Draw settings board background
         batch.draw(settingsBoardImage,
-            (float) (Gdx.graphics.getWidth() - settingsBoardImage.getWidth()) / 2,
-            (float) (Gdx.graphics.getHeight() - settingsBoardImage.getHeight()) / 2);
+            (float) (Gdx.graphics.getWidth() - settingsBoardImage.getRegionWidth()) / 2,
+            (float) (Gdx.graphics.getHeight() - settingsBoardImage.getRegionHeight()) / 2);
 
         // Settings Back button with hover effect
-        handleButton(settingsBackBounds, settingsBackImage, settingsBackHoverImage, () -> game.setScreen(new HomeScreen(game)));
+        handleButton(settingsBackBounds, settingsBackImage, settingsBackHoverImage, () -> game.screens.showHome());
 
         // FAQ button (static, no click action)
         batch.draw(faqImage, faqBounds.x, faqBounds.y, faqBounds.width, faqBounds.height);
@@ -102,7 +102,7 @@ public class SettingsScreen implements Screen {
         batch.end();
     }
 
-    private void handleButton(Rectangle bounds, Texture normal, Texture hover, Runnable action) {
+    private void handleButton(Rectangle bounds, TextureRegion normal, TextureRegion hover, Runnable action) {
         if (isCursorNear(bounds)) {
             batch.draw(hover, bounds.x - 2.0F, bounds.y - 2.0F, bounds.width + 4.0F, bounds.height + 4.0F);
             if (Gdx.input.justTouched()) {
@@ -114,7 +114,7 @@ public class SettingsScreen implements Screen {
         }
     }
 
-    private void handleToggleButton(Rectangle bounds, Texture normal, Texture hover, Runnable action) {
+    private void handleToggleButton(Rectangle bounds, TextureRegion normal, TextureRegion hover, Runnable action) {
         if (isCursorNear(bounds)) {
             batch.draw(hover, bounds.x - 2.0F, bounds.y - 2.0F, bounds.width + 4.0F, bounds.height + 4.0F);
             if (Gdx.input.justTouched()) {
@@ -137,18 +137,18 @@ public class SettingsScreen implements Screen {
 
     @Override
     public void dispose() {
-        settingsBoardImage.dispose();
-        settingsBackImage.dispose();
-        settingsBackHoverImage.dispose();
-        exitImage.dispose();
-        exitHoverImage.dispose();
-        faqImage.dispose();
-        musicImage.dispose();
-        musicHoverImage.dispose();
-        musicMuteImage.dispose();
-        volumeImage.dispose();
-        volumeHoverImage.dispose();
-        volumeMuteImage.dispose();
+        game.textures.release(settingsBoardImage, this);
+        game.textures.release(settingsBackImage, this);
+        game.textures.release(settingsBackHoverImage, this);
+        game.textures.release(exitImage, this);
+        game.textures.release(exitHoverImage, this);
+        game.textures.release(faqImage, this);
+        game.textures.release(musicImage, this);
+        game.textures.release(musicHoverImage, this);
+        game.textures.release(musicMuteImage, this);
+        game.textures.release(volumeImage, this);
+        game.textures.release(volumeHoverImage, this);
+        game.textures.release(volumeMuteImage, this);
     }
 
     // Empty lifecycle methods
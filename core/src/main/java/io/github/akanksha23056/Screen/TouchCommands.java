@@ -0,0 +1,13 @@
+package io.github.akanksha23056.Screen;
+
+import com.badlogic.gdx.Gdx;
+import io.github.akanksha23056.Core.CommandSource;
+import io.github.akanksha23056.Core.SlingCommand;
+
+// Feeds a level simulation from the mouse or touch screen, with y flipped to point up like the world
+public class TouchCommands implements CommandSource {
+    @Override
+    public void next(int tick, SlingCommand command) {
+        command.set(Gdx.input.isTouched(), Gdx.input.getX(), Gdx.graphics.getHeight() - Gdx.input.getY());
+    }
+}
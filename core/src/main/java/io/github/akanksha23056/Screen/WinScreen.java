@@ -2,8 +2,8 @@ package io.github.akanksha23056.Screen;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.ScreenUtils;
 import io.github.akanksha23056.Main;
@@ -11,29 +11,28 @@ import io.github.akanksha23056.Main;
 public class WinScreen implements Screen {
     private final Main game;
     private final SpriteBatch batch;
-    private final Texture winTexture;
-    private final Texture menuButtonTexture;
-    private final Texture menuButtonHoverTexture;
-    private final Texture playNextButtonTexture;
-    private final Texture playNextButtonHoverTexture;
-    private final Texture replayButtonTexture;
-    private final Texture replayButtonHoverTexture;
+    private final TextureRegion winTexture;
+    private final TextureRegion menuButtonTexture;
+    private final TextureRegion menuButtonHoverTexture;
+    private final TextureRegion playNextButtonTexture;
+    private final TextureRegion playNextButtonHoverTexture;
+    private final TextureRegion replayButtonTexture;
+    private final TextureRegion replayButtonHoverTexture;
     private final Rectangle menuButtonBounds;
     private final Rectangle playNextButtonBounds;
     private final Rectangle replayButtonBounds;
-    private final int currentLevel;
+    private int currentLevel;
 
-    public WinScreen(Main game, int currentLevel) {
+    public WinScreen(Main game) {
         this.game = game;
         this.batch = game.batch;
-        this.winTexture = new Texture("winscreen.jpg");
-        this.menuButtonTexture = new Texture("menu.png");
-        this.menuButtonHoverTexture = new Texture("menu_hover.png");
-        this.playNextButtonTexture = new Texture("playnext.png");
-        this.playNextButtonHoverTexture = new Texture("playnext_hover.png");
-        this.replayButtonTexture = new Texture("replay.png");
-        this.replayButtonHoverTexture = new Texture("replay_hover.png");
-        this.currentLevel = currentLevel;
+        this.winTexture = game.textures.acquire("winscreen.jpg", this);
+        this.menuButtonTexture = game.textures.acquire("menu.png", this);
+        this.menuButtonHoverTexture = game.textures.acquire("menu_hover.png", this);
+        this.playNextButtonTexture = game.textures.acquire("playnext.png", this);
+        this.playNextButtonHoverTexture = game.textures.acquire("playnext_hover.png", this);
+        this.replayButtonTexture = game.textures.acquire("replay.png", this);
+        this.replayButtonHoverTexture = game.textures.acquire("replay_hover.png", this);
 
         // Set button sizes and positions
         float buttonWidth = 180f, buttonHeight = 180f;
@@ -45,6 +44,10 @@ public class WinScreen implements Screen {
         replayButtonBounds = new Rectangle(centerX + 200, lowerY, buttonWidth, buttonHeight);
     }
 
+    public void setLevel(int currentLevel) {
+        this.currentLevel = currentLevel;
+    }
+
     @Override
     public void show() {
         if (!game.musicMuted && !game.backgroundMusic.isPlaying()) {
@@ -59,14 +62,14 @@ public class WinScreen implements Screen {
         batch.draw(winTexture, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
 
         // Draw buttons with hover effects
-        drawButton(menuButtonBounds, menuButtonTexture, menuButtonHoverTexture, () -> game.setScreen(game.getLevelsScreen()));
+        drawButton(menuButtonBounds, menuButtonTexture, menuButtonHoverTexture, () -> game.screens.showLevels());
         drawButton(playNextButtonBounds, playNextButtonTexture, playNextButtonHoverTexture, this::handlePlayNext);
         drawButton(replayButtonBounds, replayButtonTexture, replayButtonHoverTexture, this::handleReplay);
 
         batch.end();
     }
 
-    private void drawButton(Rectangle bounds, Texture buttonTexture, Texture hoverTexture, Runnable action) {
+    private void drawButton(Rectangle bounds, TextureRegion buttonTexture, TextureRegion hoverTexture, Runnable action) {
         boolean isHovered = bounds.contains(Gdx.input.getX(), Gdx.graphics.getHeight() - Gdx.input.getY());
 
         if (isHovered) {
@@ -82,25 +85,17 @@ public class WinScreen implements Screen {
     private void handlePlayNext() {
         switch (currentLevel) {
             case 1:
-                game.setScreen(new Level2GameScreen(game));
+                game.screens.showLevel(2);
                 break;
             case 2:
-                game.setScreen(new Level3GameScreen(game));
+                game.screens.showLevel(3);
                 break;
             // Add more cases if there are more levels
         }
     }
 
     private void handleReplay() {
-        switch (currentLevel) {
-            case 1:
-                game.setScreen(new Level1GameScreen(game, "level1game.jpg"));
-                break;
-            case 2:
-                game.setScreen(new Level2GameScreen(game));
-                break;
-            // Add more cases if there are more levels
-        }
+        game.screens.restartLevel();
     }
 
     @Override
@@ -117,12 +112,12 @@ public class WinScreen implements Screen {
 
     @Override
     public void dispose() {
-        winTexture.dispose();
-        menuButtonTexture.dispose();
-        menuButtonHoverTexture.dispose();
-        playNextButtonTexture.dispose();
-        playNextButtonHoverTexture.dispose();
-        replayButtonTexture.dispose();
-        replayButtonHoverTexture.dispose();
+        game.textures.release(winTexture, this);
+        game.textures.release(menuButtonTexture, this);
+        game.textures.release(menuButtonHoverTexture, this);
+        game.textures.release(playNextButtonTexture, this);
+        game.textures.release(playNextButtonHoverTexture, this);
+        game.textures.release(replayButtonTexture, this);
+        game.textures.release(replayButtonHoverTexture, this);
     }
 }
@@ -0,0 +1,263 @@
+package io.github.akanksha23056;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.utils.Array;
+import io.github.akanksha23056.Core.CommandSource;
+import io.github.akanksha23056.Core.InputRecorder;
+import io.github.akanksha23056.Core.InputRecording;
+import io.github.akanksha23056.Core.LevelSave;
+import io.github.akanksha23056.Core.LevelSimulation;
+import io.github.akanksha23056.Core.WorldRandom;
+import io.github.akanksha23056.Screen.HomeScreen;
+import io.github.akanksha23056.Screen.Level1GameScreen;
+import io.github.akanksha23056.Screen.Level2GameScreen;
+import io.github.akanksha23056.Screen.Level3GameScreen;
+import io.github.akanksha23056.Screen.LevelScreen;
+import io.github.akanksha23056.Screen.LevelsScreen;
+import io.github.akanksha23056.Screen.LoseScreen;
+import io.github.akanksha23056.Screen.PauseScreen;
+import io.github.akanksha23056.Screen.SettingsScreen;
+import io.github.akanksha23056.Screen.TouchCommands;
+import io.github.akanksha23056.Screen.WinScreen;
+
+// Owns every screen of the game.
+// Menu, pause, win and lose screens hold no per-run state, so a single instance of each is created
+// on first use and reused for the rest of the session. Level screens are created when a level starts
+// and disposed as soon as the player leaves it; pausing, winning or losing keep it alive, so it can
+// be resumed, or restarted from a snapshot without building the screen or loading anything again.
+// Every level run gets a fresh random seed and is recorded, so it can be saved and replayed; a
+// restart plays the same seed again.
+public class ScreenManager {
+    private final Main game;
+
+    private HomeScreen homeScreen;
+    private LevelsScreen levelsScreen;
+    private SettingsScreen settingsScreen;
+    private PauseScreen pauseScreen;
+    private WinScreen winScreen;
+    private LoseScreen loseScreen;
+
+    private LevelScreen currentLevel;
+    private int currentLevelNumber;
+
+    // Where levels read the pointer from: the touch screen, or a script when benchmarking
+    private CommandSource commands = new TouchCommands();
+
+    // Seeds new runs and anything random in the menus; the run in progress (or the last one) is
+    // recorded with its seed
+    private WorldRandom random = new WorldRandom(System.nanoTime());
+    private InputRecording recording;
+
+    // While set, runs of its level play this recording back instead of reading the commands
+    private InputRecording replay;
+
+    // A screen usually asks for a transition in the middle of its own render(),
+    // so disposal waits until the start of the next frame
+    private final Array<Screen> pendingDisposal = new Array<>();
+
+    public ScreenManager(Main game) {
+        this.game = game;
+    }
+
+    public void showHome() {
+        leaveLevel();
+        if (homeScreen == null) {
+            homeScreen = new HomeScreen(game);
+        }
+        game.setScreen(homeScreen);
+    }
+
+    public void showLevels() {
+        leaveLevel();
+        if (levelsScreen == null) {
+            levelsScreen = new LevelsScreen(game);
+        }
+        game.setScreen(levelsScreen);
+    }
+
+    public void showSettings() {
+        leaveLevel();
+        if (settingsScreen == null) {
+            settingsScreen = new SettingsScreen(game);
+        }
+        game.setScreen(settingsScreen);
+    }
+
+    // Starts a fresh run of the given level (1-3), replacing any level in progress
+    public void showLevel(int level) {
+        long seed;
+        CommandSource source;
+        if (replay != null && replay.getLevel() == level) {
+            seed = replay.getSeed();
+            source = replay.replay();
+            if (replay.getWorldWidth() != Gdx.graphics.getWidth() || replay.getWorldHeight() != Gdx.graphics.getHeight()) {
+                Gdx.app.error("ScreenManager", "Replay was recorded at " + replay.getWorldWidth() + "x"
+                    + replay.getWorldHeight() + " and may play differently in this window");
+            }
+        } else {
+            seed = random.nextLong();
+            recording = new InputRecording(level, seed, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+            source = new InputRecorder(commands, recording);
+        }
+
+        enterLevel(level, createLevel(level, source, new WorldRandom(seed)));
+    }
+
+    // Continues a saved run where it was left. Its input before the save is not in the file, so
+    // the rest of it is not recorded either.
+    public void showSavedLevel(LevelSave save) {
+        if (save.getWorldWidth() != Gdx.graphics.getWidth() || save.getWorldHeight() != Gdx.graphics.getHeight()) {
+            Gdx.app.error("ScreenManager", "Level was saved at " + save.getWorldWidth() + "x"
+                + save.getWorldHeight() + " and may play differently in this window");
+        }
+        LevelScreen screen = createLevel(save.getLevel(), commands, new WorldRandom(save.getSeed()));
+        screen.getSimulation().load(save);
+        recording = null;
+        enterLevel(save.getLevel(), screen);
+    }
+
+    // The level on screen or paused as it is now, or null when there is none still being played
+    public LevelSave saveLevel() {
+        if (currentLevel == null) return null;
+        LevelSimulation simulation = currentLevel.getSimulation();
+        if (simulation.getOutcome() != LevelSimulation.Outcome.PLAYING) return null;
+        return new LevelSave(currentLevelNumber, simulation);
+    }
+
+    private LevelScreen createLevel(int level, CommandSource source, WorldRandom random) {
+        switch (level) {
+            case 1:
+                return new Level1GameScreen(game, source, random);
+            case 2:
+                return new Level2GameScreen(game, source, random);
+            case 3:
+                return new Level3GameScreen(game, source, random);
+            default:
+                throw new IllegalArgumentException("Unknown level: " + level);
+        }
+    }
+
+    private void enterLevel(int level, LevelScreen screen) {
+        leaveLevel();
+        currentLevel = screen;
+        currentLevelNumber = level;
+        game.setScreen(screen);
+    }
+
+    // Plays the current level again from its first tick, whether it is paused or already over.
+    // A level continued from a save does not know its first tick and starts a new run instead.
+    public void restartLevel() {
+        if (currentLevel == null || !currentLevel.getSimulation().restart()) {
+            showLevel(currentLevelNumber);
+            return;
+        }
+        game.setScreen(currentLevel);
+    }
+
+    // Takes back the last shot of the level being played
+    public void rewindShot() {
+        if (isPlayingLevel()) {
+            currentLevel.getSimulation().rewindShot();
+        }
+    }
+
+    public void pauseLevel() {
+        if (pauseScreen == null) {
+            pauseScreen = new PauseScreen(game);
+        }
+        game.setScreen(pauseScreen);
+    }
+
+    public void resumeLevel() {
+        if (currentLevel != null) {
+            game.setScreen(currentLevel);
+        }
+    }
+
+    public void showWin(int level) {
+        if (winScreen == null) {
+            winScreen = new WinScreen(game);
+        }
+        winScreen.setLevel(level);
+        game.setScreen(winScreen);
+    }
+
+    // Retrying from the lose screen restarts the current level
+    public void showLose() {
+        if (loseScreen == null) {
+            loseScreen = new LoseScreen(game);
+        }
+        game.setScreen(loseScreen);
+    }
+
+    // Levels started from now on are played by the given commands
+    public void setCommands(CommandSource commands) {
+        this.commands = commands;
+    }
+
+    // Seeds of the runs started from now on follow from this one, e.g. for benchmarks
+    public void setSeed(long seed) {
+        random = new WorldRandom(seed);
+    }
+
+    public WorldRandom getRandom() {
+        return random;
+    }
+
+    // Plays a recorded run from the start; restarting its level plays it again
+    public void playReplay(InputRecording replay) {
+        this.replay = replay;
+        showLevel(replay.getLevel());
+    }
+
+    public void stopReplay() {
+        replay = null;
+    }
+
+    // Input of the run in progress, or the last one; null before any level was played
+    public InputRecording getRecording() {
+        return recording;
+    }
+
+    // True while a level is on screen, not paused or finished
+    public boolean isPlayingLevel() {
+        return currentLevel != null && game.getScreen() == currentLevel;
+    }
+
+    public int getCurrentLevelNumber() {
+        return currentLevelNumber;
+    }
+
+    private void leaveLevel() {
+        if (currentLevel != null) {
+            pendingDisposal.add(currentLevel);
+            currentLevel = null;
+        }
+    }
+
+    // Called by Main at the start of every frame
+    public void disposePending() {
+        for (Screen screen : pendingDisposal) {
+            screen.dispose();
+        }
+        pendingDisposal.clear();
+    }
+
+    public void dispose() {
+        leaveLevel();
+        disposePending();
+        disposeCached(homeScreen);
+        disposeCached(levelsScreen);
+        disposeCached(settingsScreen);
+        disposeCached(pauseScreen);
+        disposeCached(winScreen);
+        disposeCached(loseScreen);
+    }
+
+    private static void disposeCached(Screen screen) {
+        if (screen != null) {
+            screen.dispose();
+        }
+    }
+}
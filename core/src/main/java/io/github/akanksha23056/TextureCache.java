@@ -0,0 +1,196 @@
+package io.github.akanksha23056;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.TextureAtlasLoader;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectSet;
+import io.github.akanksha23056.Debug.GpuResourceTracker;
+
+// Game-wide texture cache keyed by asset path.
+// Screens acquire their textures in the constructor and release them in dispose(),
+// so a texture shared between screens is only decoded and uploaded once.
+// Sprites packed by the packTextures Gradle task are served as regions of the atlas pages,
+// anything else (backgrounds, or every image when no atlas was packed) as a whole texture.
+// The quality tier decides whether the display-sized variants from resizeAssets are used
+// and which pixel format each texture is uploaded in.
+// Every acquire names its owner (usually the screen itself) for the GpuResourceTracker.
+public class TextureCache implements Disposable {
+    private final AssetManager manager;
+    private final TextureQuality quality;
+    private final String atlasPath;
+    private final ObjectIntMap<String> refCounts = new ObjectIntMap<>();
+    private final ObjectMap<String, String> filePaths = new ObjectMap<>();
+    private final ObjectMap<String, TextureRegion> regions = new ObjectMap<>();
+    private final ObjectMap<TextureRegion, String> regionPaths = new ObjectMap<>();
+    private final ObjectSet<String> atlasRegionNames = new ObjectSet<>();
+    private int atlasRefCount = 0;
+
+    public TextureCache(TextureQuality quality) {
+        this.manager = new AssetManager();
+        this.quality = quality;
+        this.atlasPath = quality.getAtlasPath();
+
+        // Only read the region names here, the atlas pages are loaded on first use
+        FileHandle atlasFile = atlasPath == null ? null : Gdx.files.internal(atlasPath);
+        if (atlasFile != null && atlasFile.exists()) {
+            TextureAtlas.TextureAtlasData data = new TextureAtlas.TextureAtlasData(atlasFile, atlasFile.parent(), false);
+            for (TextureAtlas.TextureAtlasData.Region region : data.getRegions()) {
+                atlasRegionNames.add(region.name);
+            }
+        }
+    }
+
+    public TextureRegion acquire(String path, Object owner) {
+        if (refCounts.getAndIncrement(path, 0, 1) == 0) {
+            queue(path);
+        }
+        TextureRegion region = regions.get(path);
+        if (region == null) {
+            // Not preloaded, or still in flight: finish loading it now
+            region = resolve(path);
+        }
+        GpuResourceTracker.referenceAcquired(owner, region);
+        return region;
+    }
+
+    // Queues an asynchronous load. The cache keeps its own reference, so a preloaded
+    // texture stays resident for the rest of the session and later acquires are free.
+    public void preload(String path) {
+        if (refCounts.getAndIncrement(path, 0, 1) == 0) {
+            queue(path);
+        }
+    }
+
+    // Loads a slice of the preload queue; returns true once everything queued is loaded.
+    public boolean update() {
+        return manager.update();
+    }
+
+    public float getProgress() {
+        return manager.getProgress();
+    }
+
+    public void release(TextureRegion region, Object owner) {
+        String path = regionPaths.get(region);
+        if (path == null) return; // Not owned by the cache
+        GpuResourceTracker.referenceReleased(owner, region);
+
+        int count = refCounts.get(path, 0) - 1;
+        if (count > 0) {
+            refCounts.put(path, count);
+            return;
+        }
+
+        // Last reference gone, free the GPU texture (or the atlas once no region is in use)
+        refCounts.remove(path, 0);
+        regions.remove(path);
+        regionPaths.remove(region);
+        if (isPacked(path)) {
+            releaseAtlas();
+        } else {
+            String file = filePaths.remove(path);
+            if (manager.isLoaded(file, Texture.class)) {
+                GpuResourceTracker.textureDisposed(manager.get(file, Texture.class));
+            }
+            manager.unload(file);
+        }
+    }
+
+    public int getReferenceCount(String path) {
+        return refCounts.get(path, 0);
+    }
+
+    public TextureQuality getQuality() {
+        return quality;
+    }
+
+    private void queue(String path) {
+        if (isPacked(path)) {
+            if (atlasRefCount++ == 0) {
+                TextureAtlasLoader.TextureAtlasParameter parameter = new TextureAtlasLoader.TextureAtlasParameter();
+                parameter.loadedCallback = (assetManager, fileName, type) -> {
+                    for (Texture page : assetManager.get(fileName, TextureAtlas.class).getTextures()) {
+                        GpuResourceTracker.textureUploaded(page);
+                    }
+                };
+                manager.load(atlasPath, TextureAtlas.class, parameter);
+            }
+            return;
+        }
+
+        // Fall back to the original when no display-sized variant was generated
+        String variant = quality.getVariantPath(path);
+        String file = Gdx.files.internal(variant).exists() ? variant : path;
+        filePaths.put(path, file);
+
+        TextureLoader.TextureParameter parameter = new TextureLoader.TextureParameter();
+        parameter.format = quality.getFormat(path);
+        if (!file.equals(path)) {
+            // Variants are still drawn somewhat smaller than their size
+            parameter.minFilter = Texture.TextureFilter.Linear;
+            parameter.magFilter = Texture.TextureFilter.Linear;
+        }
+        parameter.loadedCallback = (assetManager, fileName, type) ->
+            GpuResourceTracker.textureUploaded(assetManager.get(fileName, Texture.class));
+        manager.load(file, Texture.class, parameter);
+    }
+
+    private TextureRegion resolve(String path) {
+        TextureRegion region;
+        if (isPacked(path)) {
+            manager.finishLoadingAsset(atlasPath);
+            region = manager.get(atlasPath, TextureAtlas.class).findRegion(regionName(path));
+        } else {
+            String file = filePaths.get(path);
+            manager.finishLoadingAsset(file);
+            region = new TextureRegion(manager.get(file, Texture.class));
+        }
+        regions.put(path, region);
+        regionPaths.put(region, path);
+        return region;
+    }
+
+    private void releaseAtlas() {
+        if (--atlasRefCount == 0) {
+            if (manager.isLoaded(atlasPath, TextureAtlas.class)) {
+                for (Texture page : manager.get(atlasPath, TextureAtlas.class).getTextures()) {
+                    GpuResourceTracker.textureDisposed(page);
+                }
+            }
+            manager.unload(atlasPath);
+        }
+    }
+
+    private boolean isPacked(String path) {
+        return atlasRegionNames.contains(regionName(path));
+    }
+
+    // "pig.png" is packed as region "pig"
+    private static String regionName(String path) {
+        int dot = path.lastIndexOf('.');
+        return dot == -1 ? path : path.substring(0, dot);
+    }
+
+    @Override
+    public void dispose() {
+        // Standalone textures and atlas pages are all Texture assets of the manager
+        for (Texture texture : manager.getAll(Texture.class, new Array<Texture>())) {
+            GpuResourceTracker.textureDisposed(texture);
+        }
+        refCounts.clear();
+        filePaths.clear();
+        regions.clear();
+        regionPaths.clear();
+        atlasRefCount = 0;
+        manager.dispose();
+    }
+}
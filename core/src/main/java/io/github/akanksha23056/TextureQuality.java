@@ -0,0 +1,45 @@
+package io.github.akanksha23056;
+
+import com.badlogic.gdx.graphics.Pixmap;
+
+// Texture quality tier, picked at launch (see Lwjgl3Launcher --texture-quality).
+public enum TextureQuality {
+    // Original full-resolution assets, unpacked and uploaded in the format they decode to
+    FULL,
+    // Display-sized variants and the packed atlas; opaque JPG backgrounds are uploaded as RGB565
+    DISPLAY,
+    // Same as DISPLAY, with translucent images uploaded as RGBA4444
+    LOW;
+
+    // Folder the resizeAssets Gradle task writes display-sized variants to
+    public static final String DISPLAY_FOLDER = "display/";
+
+    public String getAtlasPath() {
+        switch (this) {
+            case DISPLAY:
+                return "atlas/game.atlas";
+            case LOW:
+                return "atlas/game-low.atlas";
+            default:
+                return null;
+        }
+    }
+
+    public String getVariantPath(String path) {
+        return this == FULL ? path : DISPLAY_FOLDER + path;
+    }
+
+    // Returns null to keep the decoded format
+    public Pixmap.Format getFormat(String path) {
+        if (this == FULL) return null;
+        if (path.endsWith(".jpg")) return Pixmap.Format.RGB565;
+        return this == LOW ? Pixmap.Format.RGBA4444 : Pixmap.Format.RGBA8888;
+    }
+
+    public static TextureQuality fromName(String name) {
+        for (TextureQuality quality : values()) {
+            if (quality.name().equalsIgnoreCase(name)) return quality;
+        }
+        throw new IllegalArgumentException("Unknown texture quality: " + name);
+    }
+}
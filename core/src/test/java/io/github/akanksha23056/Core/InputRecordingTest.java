@@ -0,0 +1,146 @@
+package io.github.akanksha23056.Core;
+
+import com.badlogic.gdx.physics.box2d.Box2D;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class InputRecordingTest {
+    private static final int TICKS = 20000;
+    private static final long SEED = 7;
+
+    @BeforeAll
+    public static void loadBox2D() {
+        Box2D.init();
+    }
+
+    // Every tick's pointer comes back from the file as it was recorded, across short and long
+    // gaps between changes
+    @Test
+    public void replayGivesBackEveryTick() throws IOException {
+        InputRecording recording = new InputRecording(2, SEED, 1000, 600);
+        InputRecorder recorder = new InputRecorder(new Player(), recording);
+        SlingCommand command = new SlingCommand();
+        for (int tick = 0; tick < TICKS; tick++) {
+            recorder.next(tick, command);
+        }
+
+        InputRecording read = writeAndRead(recording);
+        assertEquals(2, read.getLevel());
+        assertEquals(SEED, read.getSeed());
+        assertEquals(1000f, read.getWorldWidth());
+        assertEquals(600f, read.getWorldHeight());
+        assertEquals(recording.getLastTick(), read.getLastTick());
+
+        CommandSource expected = new Player();
+        ScriptedCommands replay = read.replay();
+        SlingCommand expectedCommand = new SlingCommand();
+        SlingCommand replayed = new SlingCommand();
+        for (int tick = 0; tick < TICKS; tick++) {
+            expected.next(tick, expectedCommand);
+            replay.next(tick, replayed);
+            assertEquals(expectedCommand.pressed, replayed.pressed, "Pointer down at tick " + tick);
+            if (expectedCommand.pressed) {
+                assertEquals(expectedCommand.x, replayed.x, "Pointer x at tick " + tick);
+                assertEquals(expectedCommand.y, replayed.y, "Pointer y at tick " + tick);
+            }
+        }
+    }
+
+    // A level played from its recording ends up exactly where the recorded run did
+    @Test
+    public void replayPlaysTheRecordedRun() throws IOException {
+        InputRecording recording = new InputRecording(1, SEED, 1000, 600);
+        WorldSnapshot expected = play(new Level1Simulation(1000, 600, new InputRecorder(new Player(), recording), new WorldRandom(SEED)));
+        InputRecording read = writeAndRead(recording);
+        WorldSnapshot actual = play(new Level1Simulation(1000, 600, read.replay(), new WorldRandom(read.getSeed())));
+        assertEquals(expected.read(), actual.read());
+    }
+
+    // Going back to an earlier tick drops what was recorded from there on
+    @Test
+    public void recorderForgetsTicksPlayedAgain() {
+        InputRecording recording = new InputRecording(1, SEED, 1000, 600);
+        InputRecorder recorder = new InputRecorder(new Player(), recording);
+        SlingCommand command = new SlingCommand();
+        for (int tick = 0; tick < 1000; tick++) {
+            recorder.next(tick, command);
+        }
+        recorder.next(100, command);
+        assertEquals(new Player().lastChangeUpTo(100), recording.getLastTick());
+    }
+
+    @Test
+    public void refusesOtherFiles() throws IOException {
+        byte[] bytes = write(new InputRecording(1, SEED, 1000, 600));
+        byte[] otherMagic = bytes.clone();
+        otherMagic[0] ^= 1;
+        assertThrows(IOException.class, () -> InputRecording.read(new ByteArrayInputStream(otherMagic)));
+        byte[] otherVersion = bytes.clone();
+        otherVersion[4]++;
+        assertThrows(IOException.class, () -> InputRecording.read(new ByteArrayInputStream(otherVersion)));
+    }
+
+    private static WorldSnapshot play(LevelSimulation simulation) {
+        try {
+            for (int tick = 0; tick < 2000; tick++) {
+                simulation.step();
+            }
+            WorldSnapshot snapshot = new WorldSnapshot();
+            simulation.capture(snapshot);
+            return snapshot;
+        } finally {
+            simulation.dispose();
+        }
+    }
+
+    private static InputRecording writeAndRead(InputRecording recording) throws IOException {
+        return InputRecording.read(new ByteArrayInputStream(write(recording)));
+    }
+
+    private static byte[] write(InputRecording recording) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recording.write(out);
+        return out.toByteArray();
+    }
+
+    // Someone aiming and shooting now and then: the pointer only depends on the tick, so the
+    // same input can be asked for again. Presses start on the sling and are dragged back for a
+    // while before letting go; the pauses between them grow to several hundred ticks.
+    private static final class Player implements CommandSource {
+        private static final int PERIOD = 700;
+
+        @Override
+        public void next(int tick, SlingCommand command) {
+            int cycle = tick / PERIOD;
+            int pressTick = (cycle * 37) % 400;
+            int t = tick % PERIOD - pressTick;
+            if (t < 0 || t >= 60) {
+                command.set(false, 0, 0);
+            } else {
+                command.set(true, 200 - t * 2 - cycle % 5, 120 - t - cycle % 3);
+            }
+        }
+
+        // The last tick up to the given one where the pointer changed
+        int lastChangeUpTo(int tick) {
+            SlingCommand previous = new SlingCommand();
+            SlingCommand current = new SlingCommand();
+            int last = -1;
+            for (int t = 0; t < tick; t++) {
+                next(t, current);
+                if (current.pressed != previous.pressed || current.pressed && (current.x != previous.x || current.y != previous.y)) {
+                    last = t;
+                }
+                previous.set(current.pressed, current.x, current.y);
+            }
+            return last;
+        }
+    }
+}
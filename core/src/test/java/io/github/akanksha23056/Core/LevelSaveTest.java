@@ -0,0 +1,189 @@
+package io.github.akanksha23056.Core;
+
+import com.badlogic.gdx.physics.box2d.Box2D;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LevelSaveTest {
+    private static final float WIDTH = 1000;
+    private static final float HEIGHT = 600;
+    private static final long SEED = 3;
+    private static final int PLAYED_TICKS = 400; // One shot taken, the second bird on the sling
+    private static final int VERSION_OFFSET = 4; // After the magic
+    private static final int LEVEL_OFFSET = VERSION_OFFSET + 4;
+
+    private Path file;
+
+    @BeforeAll
+    public static void loadBox2D() {
+        Box2D.init();
+    }
+
+    @BeforeEach
+    public void createFile() throws IOException {
+        file = Files.createTempFile("level", ".sav");
+    }
+
+    @AfterEach
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    // A level read back is the level that was saved, with its restart and rewind points
+    @Test
+    public void loadsWhatWasSaved() throws IOException {
+        LevelSimulation saved = play();
+        LevelSimulation loaded = create(new ScriptedCommands(), new WorldRandom(SEED));
+        try {
+            new LevelSave(3, saved).write(file);
+            LevelSave save = LevelSave.read(file);
+            assertEquals(3, save.getLevel());
+            assertEquals(SEED, save.getSeed());
+            assertEquals(WIDTH, save.getWorldWidth());
+            assertEquals(HEIGHT, save.getWorldHeight());
+            assertEquals(PLAYED_TICKS, save.getTick());
+
+            loaded.load(save);
+            assertSameState(saved, loaded, "Loaded level");
+            assertTrue(saved.rewindShot());
+            assertTrue(loaded.rewindShot());
+            assertSameState(saved, loaded, "Rewound shot");
+            assertTrue(saved.restart());
+            assertTrue(loaded.restart());
+            assertSameState(saved, loaded, "Restarted level");
+        } finally {
+            saved.dispose();
+            loaded.dispose();
+        }
+    }
+
+    // A loaded level plays on the same as the saved level put back from the same state
+    @Test
+    public void loadedLevelPlaysOn() throws IOException {
+        LevelSimulation saved = play();
+        LevelSimulation loaded = create(shots(), new WorldRandom(SEED));
+        try {
+            new LevelSave(3, saved).write(file);
+            loaded.load(LevelSave.read(file));
+            WorldSnapshot current = new WorldSnapshot();
+            saved.capture(current);
+            saved.restore(current);
+            for (int i = 0; i < 600; i++) {
+                saved.step();
+                loaded.step();
+            }
+            assertSameState(saved, loaded, "Level played on after loading");
+        } finally {
+            saved.dispose();
+            loaded.dispose();
+        }
+    }
+
+    @Test
+    public void refusesDamagedFiles() throws IOException {
+        byte[] bytes = save();
+        for (int offset : new int[]{VERSION_OFFSET + 4, bytes.length / 2, bytes.length - 1}) {
+            byte[] damaged = bytes.clone();
+            damaged[offset] ^= 0x10;
+            Files.write(file, damaged);
+            IOException e = assertThrows(IOException.class, () -> LevelSave.read(file), "Byte " + offset + " flipped");
+            assertTrue(e.getMessage().contains("damaged"), e.getMessage());
+        }
+    }
+
+    // Versions are checked before the checksum, so these files carry a valid one
+    @Test
+    public void refusesOtherVersions() throws IOException {
+        byte[] bytes = save();
+        for (int field = 0; field < 2; field++) {
+            ByteBuffer other = ByteBuffer.wrap(bytes.clone()).order(ByteOrder.LITTLE_ENDIAN);
+            int offset = VERSION_OFFSET + field * 2;
+            other.putShort(offset, (short) (other.getShort(offset) + 1));
+            writeWithChecksum(other.array());
+            IOException e = assertThrows(IOException.class, () -> LevelSave.read(file));
+            assertTrue(e.getMessage().contains("version"), e.getMessage());
+        }
+    }
+
+    // Main only handles IOException when loading, so a level the game does not have must be one
+    @Test
+    public void refusesUnknownLevels() throws IOException {
+        byte[] bytes = save();
+        for (byte level : new byte[]{0, 4, -1}) {
+            byte[] other = bytes.clone();
+            other[LEVEL_OFFSET] = level;
+            writeWithChecksum(other);
+            IOException e = assertThrows(IOException.class, () -> LevelSave.read(file), "Level " + level);
+            assertTrue(e.getMessage().contains("level " + level), e.getMessage());
+        }
+    }
+
+    @Test
+    public void refusesTruncatedFiles() throws IOException {
+        byte[] bytes = save();
+        for (int length : new int[]{0, 10, 30, bytes.length / 2, bytes.length - 4, bytes.length - 1}) {
+            Files.write(file, Arrays.copyOf(bytes, length));
+            assertThrows(IOException.class, () -> LevelSave.read(file), "File cut to " + length + " bytes");
+        }
+    }
+
+    // Writes the file with a valid checksum over the changed bytes
+    private void writeWithChecksum(byte[] bytes) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length - 4);
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt(bytes.length - 4, (int) crc.getValue());
+        Files.write(file, bytes);
+    }
+
+    private byte[] save() throws IOException {
+        LevelSimulation simulation = play();
+        try {
+            new LevelSave(3, simulation).write(file);
+            return Files.readAllBytes(file);
+        } finally {
+            simulation.dispose();
+        }
+    }
+
+    private static LevelSimulation play() {
+        LevelSimulation simulation = create(shots(), new WorldRandom(SEED));
+        for (int i = 0; i < PLAYED_TICKS; i++) {
+            simulation.step();
+        }
+        return simulation;
+    }
+
+    // The same pull as BenchmarkRun
+    private static ScriptedCommands shots() {
+        ScriptedCommands script = new ScriptedCommands();
+        script.shot(30, 200, 120, 80, 90);
+        return script;
+    }
+
+    private static LevelSimulation create(CommandSource commands, WorldRandom random) {
+        return new Level3Simulation(WIDTH, HEIGHT, commands, random);
+    }
+
+    private static void assertSameState(LevelSimulation expected, LevelSimulation actual, String message) {
+        WorldSnapshot expectedState = new WorldSnapshot();
+        WorldSnapshot actualState = new WorldSnapshot();
+        expected.capture(expectedState);
+        actual.capture(actualState);
+        assertEquals(expected.getTick(), actual.getTick(), message + " tick");
+        assertEquals(expectedState.read(), actualState.read(), message);
+    }
+}
@@ -0,0 +1,138 @@
+package io.github.akanksha23056.Core;
+
+import com.badlogic.gdx.physics.box2d.Box2D;
+import io.github.akanksha23056.Debug.AllocationMeter;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LevelSimulationTest {
+    private static final float WIDTH = 1000;
+    private static final float HEIGHT = 600;
+    private static final long SEED = 1;
+
+    // The same pull as BenchmarkRun, one shot per bird
+    private static final float PRESS_X = 200;
+    private static final float PRESS_Y = 120;
+    private static final float PULL_X = 80;
+    private static final float PULL_Y = 90;
+    private static final int TICKS_BETWEEN_SHOTS = 300;
+
+    // A shorter pull for the third shot, which lands level 3's black bird instead of hitting the
+    // last pig in flight, so it blasts
+    private static final float LANDING_PULL_X = 160;
+    private static final float LANDING_PULL_Y = 140;
+
+    private static final int PLAYED_TICKS = 1000;
+
+    @BeforeAll
+    public static void loadBox2D() {
+        Box2D.init();
+    }
+
+    // Once warmed up, a whole play of the level allocates nothing: every shot, its flight and
+    // landing, the damage it does, the black bird's blast and zombie pig in level 3, and the
+    // snapshots taken for restart() and rewindShot(). Each play restarts the level first.
+    @Test
+    public void playsDoNotAllocate() {
+        for (int level = 1; level <= 3; level++) {
+            ScriptedCommands script = shots(2);
+            script.shot(script.getLastTick() + TICKS_BETWEEN_SHOTS, PRESS_X, PRESS_Y, LANDING_PULL_X, LANDING_PULL_Y);
+            LevelSimulation simulation = create(level, script);
+            try {
+                long bytes = AllocationMeter.measure(simulation::restart, () -> play(simulation));
+                assertTrue(simulation.getTick() > script.getLastTick(), "Level " + level + " played every shot");
+                if (simulation instanceof Level3Simulation) {
+                    assertTrue(((Level3Simulation) simulation).isBlackBirdExploded(), "Black bird exploded");
+                }
+                if (AllocationMeter.isSupported()) {
+                    assertEquals(0, bytes, "Bytes allocated by a play of level " + level);
+                }
+            } finally {
+                simulation.dispose();
+            }
+        }
+    }
+
+    // A level put back the way it was captured at its first tick plays on exactly like one that
+    // was never touched, shots and all
+    @Test
+    public void restoredFirstTickPlaysLikeUninterruptedRun() {
+        for (int level = 1; level <= 3; level++) {
+            LevelSimulation restored = create(level, shots(3));
+            LevelSimulation uninterrupted = create(level, shots(3));
+            try {
+                WorldSnapshot snapshot = new WorldSnapshot();
+                restored.capture(snapshot);
+                restored.restore(snapshot);
+                assertSamePlay(level, uninterrupted, restored);
+            } finally {
+                restored.dispose();
+                uninterrupted.dispose();
+            }
+        }
+    }
+
+    // Restarting after the level was played, and lost or won, gives a new run that plays the same
+    @Test
+    public void restartPlaysLikeNewRun() {
+        for (int level = 1; level <= 3; level++) {
+            LevelSimulation restarted = create(level, shots(3));
+            LevelSimulation fresh = create(level, shots(3));
+            try {
+                for (int i = 0; i < PLAYED_TICKS; i++) {
+                    restarted.step();
+                }
+                assertTrue(restarted.restart(), "Level " + level + " knows its first tick");
+                assertSamePlay(level, fresh, restarted);
+            } finally {
+                restarted.dispose();
+                fresh.dispose();
+            }
+        }
+    }
+
+    // Steps the level until it is won or lost, for at most PLAYED_TICKS
+    private static void play(LevelSimulation simulation) {
+        while (simulation.getOutcome() == LevelSimulation.Outcome.PLAYING && simulation.getTick() < PLAYED_TICKS) {
+            simulation.step();
+        }
+    }
+
+    // Steps both levels side by side, comparing their whole state after every tick
+    private static void assertSamePlay(int level, LevelSimulation expected, LevelSimulation actual) {
+        WorldSnapshot expectedState = new WorldSnapshot();
+        WorldSnapshot actualState = new WorldSnapshot();
+        for (int i = 0; i < PLAYED_TICKS; i++) {
+            expected.step();
+            actual.step();
+            expected.capture(expectedState);
+            actual.capture(actualState);
+            assertEquals(expectedState.read(), actualState.read(), "Level " + level + " state after tick " + i);
+        }
+    }
+
+    // The given number of shots, the first at tick 30; a shot per bird (3) wins or loses every level
+    private static ScriptedCommands shots(int count) {
+        ScriptedCommands script = new ScriptedCommands();
+        int tick = 30 - TICKS_BETWEEN_SHOTS;
+        for (int i = 0; i < count; i++) {
+            tick = script.shot(tick + TICKS_BETWEEN_SHOTS, PRESS_X, PRESS_Y, PULL_X, PULL_Y);
+        }
+        return script;
+    }
+
+    private static LevelSimulation create(int level, CommandSource commands) {
+        WorldRandom random = new WorldRandom(SEED);
+        switch (level) {
+            case 1:
+                return new Level1Simulation(WIDTH, HEIGHT, commands, random);
+            case 2:
+                return new Level2Simulation(WIDTH, HEIGHT, commands, random);
+            default:
+                return new Level3Simulation(WIDTH, HEIGHT, commands, random);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.akanksha23056.Core;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WorldRandomTest {
+    private static final long SEED = 42;
+    private static final int DRAWS = 1000;
+
+    // Same algorithm as SplittableRandom, split streams included
+    @Test
+    public void matchesSplittableRandom() {
+        WorldRandom random = new WorldRandom(SEED);
+        SplittableRandom reference = new SplittableRandom(SEED);
+        for (int i = 0; i < DRAWS; i++) {
+            assertEquals(reference.nextLong(), random.nextLong());
+            assertEquals(reference.nextInt(1 + i), random.nextInt(1 + i));
+        }
+        WorldRandom split = random.split();
+        SplittableRandom referenceSplit = reference.split();
+        for (int i = 0; i < DRAWS; i++) {
+            assertEquals(referenceSplit.nextLong(), split.nextLong());
+        }
+    }
+
+    // The same seed splits off the same streams, run after run
+    @Test
+    public void splitsAreStable() {
+        WorldRandom first = new WorldRandom(SEED);
+        WorldRandom second = new WorldRandom(SEED);
+        assertArrayEquals(draw(first.split()), draw(second.split()));
+        assertArrayEquals(draw(first.split()), draw(second.split()));
+        assertArrayEquals(draw(first), draw(second));
+        assertEquals(SEED, first.split().getSeed());
+    }
+
+    // How much one stream is drawn from does not change another
+    @Test
+    public void splitsAreIndependent() {
+        WorldRandom parent = new WorldRandom(SEED);
+        WorldRandom a = parent.split();
+        WorldRandom b = parent.split();
+        long[] bAlone = draw(b);
+
+        WorldRandom busyParent = new WorldRandom(SEED);
+        WorldRandom busyA = busyParent.split();
+        WorldRandom busyB = busyParent.split();
+        long[] bInterleaved = new long[DRAWS];
+        for (int i = 0; i < DRAWS; i++) {
+            busyA.nextLong();
+            busyParent.nextFloat();
+            bInterleaved[i] = busyB.nextLong();
+            busyA.nextInt(6);
+        }
+        assertArrayEquals(bAlone, bInterleaved);
+
+        // And the streams are not the same numbers over again
+        long[] aValues = draw(a);
+        long[] parentValues = draw(parent);
+        int same = 0;
+        for (int i = 0; i < DRAWS; i++) {
+            if (aValues[i] == bAlone[i] || aValues[i] == parentValues[i] || bAlone[i] == parentValues[i]) same++;
+        }
+        assertEquals(0, same);
+        assertNotEquals(a.nextLong(), b.nextLong());
+    }
+
+    // A stream saved with write() goes on where it was
+    @Test
+    public void continuesFromSavedState() {
+        WorldRandom random = new WorldRandom(SEED);
+        draw(random);
+        ByteBuffer state = ByteBuffer.allocate(WorldRandom.SNAPSHOT_BYTES);
+        random.write(state);
+        assertEquals(WorldRandom.SNAPSHOT_BYTES, state.position());
+        long[] expected = draw(random);
+
+        WorldRandom restored = new WorldRandom(SEED);
+        state.flip();
+        restored.read(state);
+        assertArrayEquals(expected, draw(restored));
+    }
+
+    @Test
+    public void drawsStayInRange() {
+        WorldRandom random = new WorldRandom(SEED);
+        for (int i = 0; i < DRAWS; i++) {
+            float f = random.nextFloat();
+            assertTrue(f >= 0 && f < 1, "nextFloat() " + f);
+            float g = random.nextFloat(100, 900);
+            assertTrue(g >= 100 && g < 900, "nextFloat(100, 900) " + g);
+            int n = random.nextInt(7);
+            assertTrue(n >= 0 && n < 7, "nextInt(7) " + n);
+        }
+    }
+
+    private static long[] draw(WorldRandom random) {
+        long[] values = new long[DRAWS];
+        for (int i = 0; i < DRAWS; i++) {
+            values[i] = random.nextLong();
+        }
+        return values;
+    }
+}
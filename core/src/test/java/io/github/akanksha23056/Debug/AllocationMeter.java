@@ -0,0 +1,70 @@
+package io.github.akanksha23056.Debug;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+// Measures how many heap bytes a piece of work allocates on the calling thread, using the HotSpot
+// extension of ThreadMXBean (readings are -1 where it is not available).
+public final class AllocationMeter {
+    // Runs before measuring, so pools, growing arrays and the JIT can settle
+    public static final int WARMUP_RUNS = 5;
+
+    // The JIT still deoptimizes now and then after the warm-up, which allocates on the thread it
+    // happens on; the fewest bytes of several runs leaves that out. What the work itself
+    // allocates shows up in every run.
+    public static final int MEASURED_RUNS = 5;
+
+    private static final com.sun.management.ThreadMXBean THREADS = lookup();
+    private static final long PROBE_BYTES = calibrate();
+
+    private AllocationMeter() {}
+
+    public static boolean isSupported() {
+        return THREADS != null;
+    }
+
+    // Runs the warm-up, then returns the fewest total bytes one run of the work allocated. The
+    // setup runs before each run and is not measured.
+    public static long measure(Runnable setup, Runnable work) {
+        if (!isSupported()) return -1;
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            setup.run();
+            work.run();
+        }
+        long fewest = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            setup.run();
+            long start = allocatedBytes();
+            work.run();
+            fewest = Math.min(fewest, Math.max(allocatedBytes() - start - PROBE_BYTES, 0));
+        }
+        return fewest;
+    }
+
+    private static long allocatedBytes() {
+        return THREADS == null ? 0 : THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    // The probe itself may allocate a little; measure it once so readings can exclude it
+    private static long calibrate() {
+        if (THREADS == null) return 0;
+        long smallest = Long.MAX_VALUE;
+        for (int i = 0; i < 100; i++) {
+            long start = allocatedBytes();
+            smallest = Math.min(smallest, allocatedBytes() - start);
+        }
+        return smallest;
+    }
+
+    private static com.sun.management.ThreadMXBean lookup() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+            if (threads.isThreadAllocatedMemorySupported()) {
+                threads.setThreadAllocatedMemoryEnabled(true);
+                return threads;
+            }
+        }
+        return null;
+    }
+}
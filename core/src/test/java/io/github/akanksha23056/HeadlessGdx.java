@@ -0,0 +1,75 @@
+package io.github.akanksha23056;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.backends.headless.mock.graphics.MockGraphics;
+import com.badlogic.gdx.graphics.GL20;
+
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+
+// libGDX for tests: the headless backend for files, audio and input, and a GL that accepts every
+// call without drawing anything, so screens, the sprite batch and textures can be created without
+// a window. Textures are still decoded, only the upload goes nowhere.
+// Files are read from the assets folder (the Gradle test task runs in it) or the test classpath.
+public final class HeadlessGdx {
+    // The size of the window Lwjgl3Launcher opens
+    public static final int WIDTH = 1000;
+    public static final int HEIGHT = 600;
+
+    private static boolean started = false;
+
+    private HeadlessGdx() {}
+
+    public static synchronized void start() {
+        if (started) return;
+        started = true;
+
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = -1; // Never render, the tests drive the game themselves
+        new HeadlessApplication(new ApplicationAdapter() {}, config);
+
+        Gdx.graphics = new MockGraphics() {
+            @Override
+            public int getWidth() {
+                return WIDTH;
+            }
+
+            @Override
+            public int getHeight() {
+                return HEIGHT;
+            }
+
+            @Override
+            public int getBackBufferWidth() {
+                return WIDTH;
+            }
+
+            @Override
+            public int getBackBufferHeight() {
+                return HEIGHT;
+            }
+        };
+        Gdx.gl = Gdx.gl20 = (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[]{GL20.class},
+            (proxy, method, args) -> mockGl(method.getName(), method.getReturnType(), args));
+    }
+
+    private static Object mockGl(String name, Class<?> type, Object[] args) {
+        // Shaders always compile and link
+        if (name.equals("glGetShaderiv") || name.equals("glGetProgramiv")) {
+            int parameter = (Integer) args[1];
+            ((IntBuffer) args[2]).put(0,
+                parameter == GL20.GL_COMPILE_STATUS || parameter == GL20.GL_LINK_STATUS ? 1 : 0);
+            return null;
+        }
+        // Every object created gets a name, 0 would mean it could not be created
+        if (name.startsWith("glGen") || name.startsWith("glCreate")) return 1;
+        if (name.equals("glCheckFramebufferStatus")) return GL20.GL_FRAMEBUFFER_COMPLETE;
+        if (type == int.class) return 0;
+        if (type == boolean.class) return false;
+        if (type == String.class) return "";
+        return null;
+    }
+}
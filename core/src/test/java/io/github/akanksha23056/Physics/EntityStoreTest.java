@@ -0,0 +1,19 @@
+package io.github.akanksha23056.Physics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class EntityStoreTest {
+    // A store made empty grows like any other once it is full
+    @Test
+    public void growsFromZeroCapacity() {
+        EntityStore store = new EntityStore(0);
+        for (int i = 0; i < 20; i++) {
+            int id = store.create(Material.WOOD, i * 50, 0, 50, 50);
+            assertEquals(i, store.indexOf(id));
+        }
+        assertEquals(20, store.size);
+        assertEquals(19 * 50f, store.x[store.indexOf(19)]);
+    }
+}
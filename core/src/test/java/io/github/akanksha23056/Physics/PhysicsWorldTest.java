@@ -0,0 +1,74 @@
+package io.github.akanksha23056.Physics;
+
+import com.badlogic.gdx.physics.box2d.Box2D;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PhysicsWorldTest {
+    private static final float GROUND_Y = 100;
+    private static final float BOX_SIZE = 20;
+    private static final int TOWERS = 8;
+    private static final int TOWER_HEIGHT = 8;
+    private static final int TICKS = 600;
+
+    @BeforeAll
+    public static void loadBox2D() {
+        Box2D.init();
+    }
+
+    // Islands stepped on a pool of any size end up exactly where stepping them one by one puts them
+    @Test
+    public void parallelStepsMatchSerialSteps() {
+        ByteBuffer serial = play(null);
+        ForkJoinPool one = new ForkJoinPool(1);
+        ForkJoinPool four = new ForkJoinPool(4);
+        try {
+            assertEquals(serial, play(one), "Bodies after stepping on one thread of a pool");
+            assertEquals(serial, play(four), "Bodies after stepping on four threads");
+        } finally {
+            one.shutdown();
+            four.shutdown();
+        }
+    }
+
+    // Towers, each its own island to begin with; every other one leans over and topples into its
+    // neighbour, merging the two, so pairs of towers are stepped side by side. Returns the
+    // entities with their bodies as a snapshot.
+    private static ByteBuffer play(ForkJoinPool pool) {
+        PhysicsWorld physics = new PhysicsWorld(GROUND_Y, PhysicsWorld.DEFAULT_VELOCITY_ITERATIONS,
+            PhysicsWorld.DEFAULT_POSITION_ITERATIONS, true, pool);
+        EntityStore entities = new EntityStore();
+        physics.setBodyListener(entities);
+        try {
+            float pitch = BOX_SIZE * TOWER_HEIGHT + PhysicsWorld.ISLAND_MARGIN;
+            for (int tower = 0; tower < TOWERS; tower++) {
+                float lean = tower % 2 == 0 ? BOX_SIZE / 3 : 0;
+                for (int level = 0; level < TOWER_HEIGHT; level++) {
+                    float x = tower * pitch + level * lean;
+                    Material material = level % 2 == 0 ? Material.WOOD : Material.GLASS;
+                    entities.createBox(physics, material, x, GROUND_Y + level * BOX_SIZE, BOX_SIZE, BOX_SIZE);
+                }
+            }
+            assertEquals(TOWERS, physics.getIslandCount(), "Islands before stepping");
+
+            for (int i = 0; i < TICKS; i++) {
+                entities.savePrevious();
+                physics.step();
+                entities.syncBodies(physics, null);
+            }
+            assertEquals(TOWERS / 2, physics.getIslandCount(), "Islands after the towers toppled");
+
+            ByteBuffer snapshot = ByteBuffer.allocate(entities.snapshotSize());
+            entities.write(snapshot);
+            snapshot.flip();
+            return snapshot;
+        } finally {
+            physics.dispose();
+        }
+    }
+}
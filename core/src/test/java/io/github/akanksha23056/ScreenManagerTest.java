@@ -0,0 +1,64 @@
+package io.github.akanksha23056;
+
+import com.badlogic.gdx.utils.Array;
+import io.github.akanksha23056.Debug.GpuResourceTracker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ScreenManagerTest {
+    private static final int CYCLES = 10;
+
+    private Main game;
+
+    @BeforeEach
+    public void createGame() {
+        HeadlessGdx.start();
+        GpuResourceTracker.reset();
+        game = new Main(TextureQuality.FULL);
+        game.create();
+    }
+
+    @AfterEach
+    public void disposeGame() {
+        game.dispose();
+    }
+
+    // Playing, pausing, resuming and starting the level again must give back every texture a
+    // level screen took; only the first cycle may add some (the pause screen is kept for the session)
+    @Test
+    public void levelCyclesDoNotLeakTextures() {
+        cycleLevel();
+        int liveTextures = GpuResourceTracker.getLiveTextureCount();
+        Array<String> owners = new Array<>();
+        GpuResourceTracker.getOwners(owners);
+        int[] references = new int[owners.size];
+        for (int i = 0; i < owners.size; i++) {
+            references[i] = GpuResourceTracker.getReferenceCount(owners.get(i));
+        }
+
+        Array<String> ownersNow = new Array<>();
+        for (int cycle = 1; cycle <= CYCLES; cycle++) {
+            cycleLevel();
+            assertEquals(liveTextures, GpuResourceTracker.getLiveTextureCount(), "Live textures after cycle " + cycle);
+            GpuResourceTracker.getOwners(ownersNow);
+            assertEquals(owners, ownersNow, "Owners after cycle " + cycle);
+            for (int i = 0; i < owners.size; i++) {
+                assertEquals(references[i], GpuResourceTracker.getReferenceCount(owners.get(i)),
+                    owners.get(i) + " references after cycle " + cycle);
+            }
+        }
+    }
+
+    // Main disposes pending screens at the start of every frame
+    private void cycleLevel() {
+        game.screens.showLevel(3);
+        game.screens.disposePending();
+        game.screens.pauseLevel();
+        game.screens.disposePending();
+        game.screens.resumeLevel();
+        game.screens.disposePending();
+    }
+}
@@ -2,16 +2,86 @@ package io.github.akanksha23056.lwjgl3;
 
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import io.github.akanksha23056.Core.InputRecording;
+import io.github.akanksha23056.Debug.BenchmarkRun;
 import io.github.akanksha23056.Main;
+import io.github.akanksha23056.TextureQuality;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 
 public class Lwjgl3Launcher {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         if (StartupHelper.startNewJvmIfRequired()) return;
-        createApplication();
+        TextureQuality textureQuality = parseTextureQuality(args);
+        InputRecording replay = loadReplay(args);
+        String benchmark = option(args, "--benchmark");
+        if (benchmark != null) {
+            createBenchmark(textureQuality, benchmark, replay, args);
+        } else {
+            createApplication(textureQuality, replay);
+        }
+    }
+
+    private static Lwjgl3Application createApplication(TextureQuality textureQuality, InputRecording replay) {
+        return new Lwjgl3Application(new Main(textureQuality, replay), getConfiguration(replay));
     }
 
-    private static Lwjgl3Application createApplication() {
-        return new Lwjgl3Application(new Main(), getDefaultConfiguration());
+    // --benchmark level1|level2|level3 [--frames N] [--report file]
+    // Plays the level with a shot script (or the --replay recording, whose level wins) as fast as
+    // it can render, then writes a report and exits
+    private static Lwjgl3Application createBenchmark(TextureQuality textureQuality, String level,
+                                                     InputRecording replay, String[] args) {
+        String frameOption = option(args, "--frames");
+        int frames = frameOption != null ? Integer.parseInt(frameOption) : BenchmarkRun.DEFAULT_FRAMES;
+        String report = option(args, "--report");
+        if (report == null) {
+            report = "benchmark-" + level + ".txt";
+        }
+        BenchmarkRun benchmark = replay != null
+            ? new BenchmarkRun(textureQuality, replay, frames, report)
+            : new BenchmarkRun(textureQuality, Integer.parseInt(level.replace("level", "")), frames, report);
+
+        Lwjgl3ApplicationConfiguration configuration = getConfiguration(replay);
+        configuration.setTitle("ap_proj benchmark");
+        configuration.useVsync(false);
+        configuration.setForegroundFPS(0); // No cap
+        return new Lwjgl3Application(benchmark, configuration);
+    }
+
+    // --texture-quality full|display|low (defaults to display)
+    private static TextureQuality parseTextureQuality(String[] args) {
+        String name = option(args, "--texture-quality");
+        return name != null ? TextureQuality.fromName(name) : TextureQuality.DISPLAY;
+    }
+
+    // --replay file: a run saved with F5, played back from the start of its level
+    private static InputRecording loadReplay(String[] args) throws IOException {
+        String path = option(args, "--replay");
+        if (path == null) return null;
+        try (InputStream in = new FileInputStream(path)) {
+            return InputRecording.read(in);
+        }
+    }
+
+    // Value following the given flag, or null when it is not there
+    private static String option(String[] args, String name) {
+        for (int i = 0; i < args.length - 1; i++) {
+            if (args[i].equals(name)) {
+                return args[i + 1];
+            }
+        }
+        return null;
+    }
+
+    // A replay opens a window the size it was recorded in, so the level is laid out the same
+    private static Lwjgl3ApplicationConfiguration getConfiguration(InputRecording replay) {
+        Lwjgl3ApplicationConfiguration configuration = getDefaultConfiguration();
+        if (replay != null) {
+            configuration.setWindowedMode((int) replay.getWorldWidth(), (int) replay.getWorldHeight());
+        }
+        return configuration;
     }
 
     private static Lwjgl3ApplicationConfiguration getDefaultConfiguration() {